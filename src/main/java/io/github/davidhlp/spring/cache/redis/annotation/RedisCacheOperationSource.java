@@ -1,14 +1,20 @@
 package io.github.davidhlp.spring.cache.redis.annotation;
 
+import io.github.davidhlp.spring.cache.redis.core.executor.BatchCacheableExecutor;
+import io.github.davidhlp.spring.cache.redis.core.factory.CacheableOperationFactory;
+import io.github.davidhlp.spring.cache.redis.core.executor.SuspendCacheableExecutor;
 import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheEvictOperation;
+import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.cache.annotation.AnnotationCacheOperationSource;
 import org.springframework.cache.interceptor.CacheOperation;
 import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
@@ -16,11 +22,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Redis缓存操作源 负责解析Redis缓存注解并转换为缓存操作 */
 @Slf4j
 public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
 
+    private final CacheableOperationFactory policyFactory = new CacheableOperationFactory();
+
+    /** 缓存名称 -> 首个声明该缓存策略的方法及其策略 */
+    private final Map<String, DeclaredPolicy> declaredPolicies = new ConcurrentHashMap<>();
+
+    /** 已完成策略冲突检查的类 */
+    private final Set<Class<?>> checkedClasses = ConcurrentHashMap.newKeySet();
+
     public RedisCacheOperationSource() {
         super(false);
     }
@@ -28,6 +46,7 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
     @Override
     @Nullable
     protected Collection<CacheOperation> findCacheOperations(Method method) {
+        checkPolicyConflicts(method.getDeclaringClass());
         return parseCacheAnnotations(method);
     }
 
@@ -54,9 +73,18 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
                             (Class<?>) target, RedisCacheable.class);
         }
 
-        if (cacheable != null) {
+        boolean soleOperation =
+                target instanceof Method method
+                        && !AnnotatedElementUtils.hasAnnotation(method, RedisCacheEvict.class)
+                        && !AnnotatedElementUtils.hasAnnotation(method, RedisCaching.class);
+
+        if (cacheable != null && cacheable.batch()) {
+            // 批量模式由 RedisCacheInterceptor 直接执行，不交给标准缓存流程
+            log.debug("Found batch @RedisCacheable annotation on target: {}", target);
+            validateBatchCacheable(target, cacheable);
+        } else if (cacheable != null) {
             log.debug("Found @RedisCacheable annotation on target: {}", target);
-            CacheOperation operation = parseRedisCacheable(cacheable, target);
+            CacheOperation operation = parseRedisCacheable(cacheable, target, soleOperation);
             validateCacheOperation(target, operation);
             ops.add(operation);
         }
@@ -94,7 +122,15 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
         if (caching != null) {
             log.debug("Found @RedisCaching annotation on target: {}", target);
             for (RedisCacheable c : caching.redisCacheable()) {
-                CacheOperation operation = parseRedisCacheable(c, target);
+                if (c.batch()) {
+                    String errorMsg =
+                            "Invalid cache annotation configuration on '"
+                                    + target
+                                    + "'. Batch @RedisCacheable is not supported inside @RedisCaching.";
+                    log.error(errorMsg);
+                    throw new IllegalStateException(errorMsg);
+                }
+                CacheOperation operation = parseRedisCacheable(c, target, false);
                 validateCacheOperation(target, operation);
                 ops.add(operation);
             }
@@ -114,7 +150,71 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
         return ops.isEmpty() ? null : Collections.unmodifiableList(ops);
     }
 
-    private CacheOperation parseRedisCacheable(RedisCacheable ann, Object target) {
+    /**
+     * 检查类中所有 @RedisCacheable 声明的缓存策略
+     *
+     * <p>写入器按缓存名称读取策略，同一缓存名称只能有一套 TTL、布隆过滤器、预刷新等配置。代理创建时切点会解析每个 Bean
+     * 的方法，这里一次性检查声明类的全部方法，使冲突在启动阶段暴露，而不是取决于运行后哪个方法先被调用。
+     */
+    private void checkPolicyConflicts(Class<?> clazz) {
+        if (checkedClasses.contains(clazz)) {
+            return;
+        }
+        for (Method method :
+                ReflectionUtils.getUniqueDeclaredMethods(
+                        clazz, ReflectionUtils.USER_DECLARED_METHODS)) {
+            RedisCacheable cacheable =
+                    AnnotatedElementUtils.findMergedAnnotation(method, RedisCacheable.class);
+            if (cacheable != null) {
+                declarePolicy(method, cacheable);
+            }
+            RedisCaching caching =
+                    AnnotatedElementUtils.findMergedAnnotation(method, RedisCaching.class);
+            if (caching != null) {
+                for (RedisCacheable c : caching.redisCacheable()) {
+                    declarePolicy(method, c);
+                }
+            }
+        }
+        checkedClasses.add(clazz);
+    }
+
+    private void declarePolicy(Method method, RedisCacheable ann) {
+        RedisCacheableOperation policy = policyFactory.create(method, ann, null, null, ann.key());
+        String declaredBy = method.getDeclaringClass().getName() + "." + method.getName();
+        for (String cacheName : policy.getCacheNames()) {
+            DeclaredPolicy existing =
+                    declaredPolicies.putIfAbsent(cacheName, new DeclaredPolicy(declaredBy, policy));
+            if (existing != null && !existing.policy().hasSamePolicy(policy)) {
+                String errorMsg =
+                        "Invalid cache annotation configuration on '"
+                                + declaredBy
+                                + "'. Cache '"
+                                + cacheName
+                                + "' is already declared with a different policy by '"
+                                + existing.declaredBy()
+                                + "'. All @RedisCacheable declarations of one cache name must use the same "
+                                + "ttl, sync, bloom filter, null value, second level cache and pre-refresh settings.";
+                log.error(errorMsg);
+                throw new IllegalStateException(errorMsg);
+            }
+        }
+    }
+
+    /**
+     * 解析 @RedisCacheable
+     *
+     * <p>返回 {@code CompletableFuture}/{@code Mono}/{@code Flux} 等异步类型的方法在满足同步条件时自动按 sync
+     * 处理：缓存查找、单飞加载与写回都经由 {@code RedisProCache#retrieve(Object, java.util.function.Supplier)}
+     * 异步完成，不在发布者完成的线程上同步写 Redis。
+     *
+     * @param ann 注解
+     * @param target 注解所在的方法或类
+     * @param soleOperation 是否为该方法上唯一的缓存操作
+     * @return 缓存操作
+     */
+    private CacheOperation parseRedisCacheable(
+            RedisCacheable ann, Object target, boolean soleOperation) {
         String name = (target instanceof Method) ? ((Method) target).getName() : target.toString();
         log.trace("Parsing @RedisCacheable annotation for target: {}", target);
 
@@ -138,7 +238,7 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
             builder.setUnless(ann.unless());
         }
 
-        builder.setSync(ann.sync());
+        builder.setSync(ann.sync() || (soleOperation && canAutoSync(ann, target)));
 
         // 只有当keyGenerator有值时才设置
         if (StringUtils.hasText(ann.keyGenerator())) {
@@ -198,6 +298,51 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
         return operation;
     }
 
+    /** 异步返回类型且满足 Spring sync 约束（单个缓存、无 unless）时自动启用 sync */
+    private boolean canAutoSync(RedisCacheable ann, Object target) {
+        if (!(target instanceof Method method) || !isAsyncReturnType(method.getReturnType())) {
+            return false;
+        }
+        String[] cacheNames = ann.value().length > 0 ? ann.value() : ann.cacheNames();
+        return cacheNames.length == 1 && !StringUtils.hasText(ann.unless());
+    }
+
+    private boolean isAsyncReturnType(Class<?> returnType) {
+        return CompletableFuture.class.isAssignableFrom(returnType)
+                || ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) != null;
+    }
+
+    private void validateBatchCacheable(Object target, RedisCacheable ann) {
+        log.trace("Validating batch cacheable configuration for target: {}", target);
+
+        String error = null;
+        if (!(target instanceof Method method)) {
+            error = "Batch @RedisCacheable can only be declared on methods.";
+        } else if (SuspendCacheableExecutor.isSuspendFunction(method)) {
+            error = "Batch @RedisCacheable is not supported on Kotlin suspend functions.";
+        } else if (BatchCacheableExecutor.findBatchParameterIndex(method) < 0) {
+            error = "Batch @RedisCacheable requires a Collection or array parameter holding the element keys.";
+        } else if (method.getParameterCount() != 1) {
+            error = "Batch @RedisCacheable requires the element key collection to be the only parameter; other arguments would not be part of the element cache keys.";
+        } else if (!BatchCacheableExecutor.isSupportedReturnType(method.getReturnType())) {
+            error = "Batch @RedisCacheable requires the method to be declared to return List, Set, Collection or Map (declared: " + method.getReturnType().getName() + "); the result is assembled as an ArrayList, LinkedHashSet or LinkedHashMap.";
+        } else if (StringUtils.hasText(ann.key()) || StringUtils.hasText(ann.keyGenerator())) {
+            error = "Batch @RedisCacheable derives keys from the collection elements; 'key' and 'keyGenerator' must not be set.";
+        } else if (ann.sync()) {
+            error = "Batch @RedisCacheable does not support 'sync'.";
+        } else if (StringUtils.hasText(ann.condition()) || StringUtils.hasText(ann.unless())) {
+            error = "Batch @RedisCacheable does not support 'condition' or 'unless'.";
+        } else if ((ann.value().length > 0 ? ann.value() : ann.cacheNames()).length == 0) {
+            error = "At least one cache name must be specified.";
+        }
+
+        if (error != null) {
+            String errorMsg = "Invalid cache annotation configuration on '" + target + "'. " + error;
+            log.error(errorMsg);
+            throw new IllegalStateException(errorMsg);
+        }
+    }
+
     private void validateCacheOperation(Object target, CacheOperation operation) {
         log.trace("Validating cache operation for target: {}", target);
 
@@ -237,4 +382,6 @@ public class RedisCacheOperationSource extends AnnotationCacheOperationSource {
 
         log.debug("Cache operation validation passed for target: {}", target);
     }
+
+    private record DeclaredPolicy(String declaredBy, RedisCacheableOperation policy) {}
 }
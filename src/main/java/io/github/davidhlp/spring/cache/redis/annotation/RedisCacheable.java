@@ -54,5 +54,32 @@ public @interface RedisCacheable {
 
     PreRefreshMode preRefreshMode() default PreRefreshMode.SYNC;
 
+    /**
+     * {@link PreRefreshMode#PROBABILISTIC} 模式的提前系数 beta，大于 1 更倾向提前刷新，小于 1 更倾向接近过期时刷新。
+     * 尚未记录重新计算耗时的缓存值退化为按 {@code preRefreshThreshold} 判定。
+     */
+    double preRefreshBeta() default 1.0;
+
     boolean useSecondLevelCache() default false;
+
+    /**
+     * 缓存命中时访问统计（lastAccessTime / visitTimes）的采样率，取值 [0, 1]。
+     * 0 表示关闭该缓存的访问统计；统计在本地聚合后异步批量回写，不影响命中路径。
+     */
+    double accessSampleRate() default 1.0;
+
+    /**
+     * 批量缓存模式，用于形如 {@code List<Product> findByIds(Collection<Long> ids)} 的方法。
+     * 方法的第一个集合（或数组）参数被拆分为逐元素的缓存键，命中的元素直接取自缓存，
+     * 仅以未命中的元素调用方法，加载结果按元素写回并按参数顺序重新组装。
+     * 返回值须声明为 List、Set、Collection 或以元素键为键的 Map（分别组装为 ArrayList、LinkedHashSet、ArrayList、LinkedHashMap）；集合须为方法的唯一参数（其他参数不参与元素缓存键），且不支持挂起函数。
+     * 开启后 key、keyGenerator、sync、condition 与 unless 不可设置。
+     */
+    boolean batch() default false;
+
+    /**
+     * 批量模式下从返回的单个元素中取出其元素键的 SpEL 表达式，以元素为根对象，例如 {@code "id"}。
+     * 为空时要求返回的集合与未命中参数一一对应；返回 Map 时使用 Map 的键。
+     */
+    String batchElementKey() default "";
 }
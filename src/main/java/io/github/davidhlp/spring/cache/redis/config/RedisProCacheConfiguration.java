@@ -1,7 +1,9 @@
 package io.github.davidhlp.spring.cache.redis.config;
 
+import io.github.davidhlp.spring.cache.redis.core.writer.CachedValueCodec;
 import io.github.davidhlp.spring.cache.redis.core.writer.RedisProCacheWriter;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheHandlerChainFactory;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.lock.SyncSupport;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.type.TypeSupport;
 import io.github.davidhlp.spring.cache.redis.manager.RedisProCacheManager;
 import io.github.davidhlp.spring.cache.redis.register.RedisCacheRegister;
@@ -29,8 +31,8 @@ public class RedisProCacheConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public RedisProCacheWriter redisProCacheWriter(RedisTemplate<String, Object> redisCacheTemplate, RedisCacheRegister redisCacheRegister, TypeSupport typeSupport, CacheHandlerChainFactory chainFactory, CacheStatisticsCollector cacheStatisticsCollector) {
-        RedisProCacheWriter writer = new RedisProCacheWriter(redisCacheTemplate, redisCacheTemplate.opsForValue(), cacheStatisticsCollector, redisCacheRegister, typeSupport, chainFactory);
+    public RedisProCacheWriter redisProCacheWriter(RedisTemplate<String, Object> redisCacheTemplate, RedisCacheRegister redisCacheRegister, TypeSupport typeSupport, CacheHandlerChainFactory chainFactory, CacheStatisticsCollector cacheStatisticsCollector, CachedValueCodec cachedValueCodec, SyncSupport syncSupport) {
+        RedisProCacheWriter writer = new RedisProCacheWriter(redisCacheTemplate, cacheStatisticsCollector, redisCacheRegister, typeSupport, chainFactory, cachedValueCodec, syncSupport);
         log.info("Created RedisProCacheWriter with handler chain pattern");
         return writer;
     }
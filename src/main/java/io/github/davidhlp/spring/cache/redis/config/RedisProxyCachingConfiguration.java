@@ -2,11 +2,11 @@ package io.github.davidhlp.spring.cache.redis.config;
 
 import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheOperationSource;
 import io.github.davidhlp.spring.cache.redis.core.RedisCacheInterceptor;
+import io.github.davidhlp.spring.cache.redis.core.executor.BatchCacheableExecutor;
+import io.github.davidhlp.spring.cache.redis.core.executor.SuspendCacheableExecutor;
 import io.github.davidhlp.spring.cache.redis.core.handler.CacheableAnnotationHandler;
 import io.github.davidhlp.spring.cache.redis.core.handler.CachingAnnotationHandler;
-import io.github.davidhlp.spring.cache.redis.core.handler.EvictAnnotationHandler;
 import io.github.davidhlp.spring.cache.redis.manager.RedisProCacheManager;
-import io.github.davidhlp.spring.cache.redis.register.RedisCacheRegister;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -52,17 +52,16 @@ public class RedisProxyCachingConfiguration {
                     CacheOperationSource redisCacheOperationSource,
             RedisProCacheManager cacheManager,
             KeyGenerator keyGenerator,
-            RedisCacheRegister redisCacheRegister,
             CacheableAnnotationHandler cacheableAnnotationHandler,
-            EvictAnnotationHandler evictAnnotationHandler,
             CachingAnnotationHandler cachingAnnotationHandler) {
 
         // 创建带调试信息的 CacheInterceptor
         RedisCacheInterceptor interceptor =
                 new RedisCacheInterceptor(
                         cacheableAnnotationHandler,
-                        evictAnnotationHandler,
-                        cachingAnnotationHandler);
+                        cachingAnnotationHandler,
+                        new BatchCacheableExecutor(cacheManager),
+                        new SuspendCacheableExecutor(cacheManager, keyGenerator));
 
         interceptor.setCacheOperationSource(redisCacheOperationSource);
         interceptor.setCacheManager(cacheManager);
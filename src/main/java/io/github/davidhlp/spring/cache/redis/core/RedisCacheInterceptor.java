@@ -1,18 +1,29 @@
 package io.github.davidhlp.spring.cache.redis.core;
 
+import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheable;
+import io.github.davidhlp.spring.cache.redis.annotation.RedisCaching;
+import io.github.davidhlp.spring.cache.redis.core.executor.BatchCacheableExecutor;
+import io.github.davidhlp.spring.cache.redis.core.executor.SuspendCacheableExecutor;
 import io.github.davidhlp.spring.cache.redis.core.handler.AnnotationHandler;
 import io.github.davidhlp.spring.cache.redis.core.handler.CacheableAnnotationHandler;
 import io.github.davidhlp.spring.cache.redis.core.handler.CachingAnnotationHandler;
-import io.github.davidhlp.spring.cache.redis.core.handler.EvictAnnotationHandler;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoaderHolder;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshMode;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 
 /** Redis缓存拦截器 扩展标准CacheInterceptor以在执行标准缓存逻辑之前，注册自定义的Redis缓存操作。 使用责任链模式处理不同类型的缓存注解 */
 @Slf4j
@@ -21,20 +32,30 @@ public class RedisCacheInterceptor extends CacheInterceptor {
     /** 责任链的头节点 */
     private final AnnotationHandler handlerChain;
 
+    /** 批量缓存方法执行器 */
+    private final BatchCacheableExecutor batchCacheableExecutor;
+
+    /** Kotlin 挂起函数缓存执行器 */
+    private final SuspendCacheableExecutor suspendCacheableExecutor;
+
     /**
      * 构造函数，构建注解处理器责任链
      *
      * @param cacheableHandler @RedisCacheable 注解处理器
-     * @param evictHandler @RedisCacheEvict 注解处理器
      * @param cachingHandler @RedisCaching 组合注解处理器
+     * @param batchCacheableExecutor 批量缓存方法执行器
+     * @param suspendCacheableExecutor Kotlin 挂起函数缓存执行器
      */
     public RedisCacheInterceptor(
             CacheableAnnotationHandler cacheableHandler,
-            EvictAnnotationHandler evictHandler,
-            CachingAnnotationHandler cachingHandler) {
-        // 构建责任链: Cacheable -> Evict -> Caching
-        cacheableHandler.setNext(evictHandler).setNext(cachingHandler);
+            CachingAnnotationHandler cachingHandler,
+            BatchCacheableExecutor batchCacheableExecutor,
+            SuspendCacheableExecutor suspendCacheableExecutor) {
+        // 构建责任链: Cacheable -> Caching（驱逐操作不携带写入器使用的策略，无需注册）
+        cacheableHandler.setNext(cachingHandler);
         this.handlerChain = cacheableHandler;
+        this.batchCacheableExecutor = batchCacheableExecutor;
+        this.suspendCacheableExecutor = suspendCacheableExecutor;
 
         log.debug("Redis cache interceptor initialized with handler chain");
     }
@@ -46,11 +67,86 @@ public class RedisCacheInterceptor extends CacheInterceptor {
         Object target = invocation.getThis();
         Assert.state(target != null, "Target object must not be null");
 
-        // 1. 在执行标准缓存逻辑之前，先处理我们的自定义注解并注册操作
-        handleCacheAnnotations(method, target, invocation.getArguments());
+        // 1. 在执行标准缓存逻辑之前，先处理我们的自定义注解并注册操作（挂起函数的 Continuation 不参与键计算）
+        handleCacheAnnotations(
+                method,
+                target,
+                SuspendCacheableExecutor.stripContinuation(method, invocation.getArguments()));
+
+        // 所有分支都在 try 内执行，异常或嵌套调用后均恢复调用前的待加载上下文
+        RedisProCache.PendingLoad pendingLoad = RedisProCache.currentPendingLoad();
+        try {
+            // 2. 批量缓存方法按元素读取与回填，挂起函数在协程内加载，均不走标准缓存流程
+            RedisCacheable cacheable =
+                    AnnotatedElementUtils.findMergedAnnotation(method, RedisCacheable.class);
+            if (cacheable != null && cacheable.batch()) {
+                return batchCacheableExecutor.execute(invocation, cacheable);
+            }
+            if (cacheable != null && SuspendCacheableExecutor.isSuspendFunction(method)) {
+                return suspendCacheableExecutor.execute(invocation, cacheable);
+            }
+
+            // 3. 调用父类的invoke方法，让它处理标准的@Cacheable等注解和缓存流程；
+            // 使用异步预刷新的方法在调用期间绑定可重复执行的调用，供后台重新加载
+            if (!usesAsyncPreRefresh(method)
+                    || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+                return super.invoke(invocation);
+            }
+            Callable<Object> previous =
+                    PreRefreshLoaderHolder.bindInvocation(reloader(proxyInvocation.invocableClone()));
+            try {
+                return super.invoke(invocation);
+            } finally {
+                PreRefreshLoaderHolder.restoreInvocation(previous);
+            }
+        } finally {
+            RedisProCache.restorePendingLoad(pendingLoad);
+        }
+    }
 
-        // 2. 调用父类的invoke方法，让它处理标准的@Cacheable等注解和缓存流程
-        return super.invoke(invocation);
+    /**
+     * 判断方法上是否有开启异步预刷新的同步返回值缓存操作
+     *
+     * <p>异步返回值的方法经由 {@code RedisProCache#retrieve(Object, Supplier)} 读取，加载器由其 valueLoader 构建，无需在此绑定。
+     *
+     * @param method 被调用的方法
+     * @return 需要绑定重新加载调用时返回 true
+     */
+    private boolean usesAsyncPreRefresh(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (CompletionStage.class.isAssignableFrom(returnType)
+                || ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) != null) {
+            return false;
+        }
+        RedisCacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(method, RedisCacheable.class);
+        if (cacheable != null && isAsyncPreRefresh(cacheable)) {
+            return true;
+        }
+        RedisCaching caching = AnnotatedElementUtils.findMergedAnnotation(method, RedisCaching.class);
+        return caching != null
+                && Arrays.stream(caching.redisCacheable()).anyMatch(this::isAsyncPreRefresh);
+    }
+
+    private boolean isAsyncPreRefresh(RedisCacheable cacheable) {
+        return cacheable.enablePreRefresh() && cacheable.preRefreshMode() == PreRefreshMode.ASYNC;
+    }
+
+    /**
+     * 基于调用模板构建重新加载入口，每次执行都克隆一份调用，从本拦截器之后的位置继续
+     *
+     * @param template 调用模板，自身不会被执行
+     * @return 重新执行方法的调用
+     */
+    private Callable<Object> reloader(MethodInvocation template) {
+        return () -> {
+            try {
+                return ((ProxyMethodInvocation) template).invocableClone().proceed();
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to reload cached method", ex);
+            }
+        };
     }
 
     /**
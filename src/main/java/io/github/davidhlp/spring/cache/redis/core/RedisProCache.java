@@ -1,16 +1,398 @@
 package io.github.davidhlp.spring.cache.redis.core;
 
+import io.github.davidhlp.spring.cache.redis.core.writer.RedisProCacheWriter;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoader;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoaderHolder;
+
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.cache.support.NullValue;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Slf4j
 public class RedisProCache extends RedisCache {
 
+    /** 正在加载中的键，同一键的并发调用共享一次加载 */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads =
+            new ConcurrentHashMap<>();
+
+    /** 当前线程最近一次未命中的键及时间，写入同一键时据此计算重新计算耗时 */
+    private static final ThreadLocal<PendingLoad> PENDING_LOAD = new ThreadLocal<>();
+
+    /** 正在异步加载中的键，同一键的并发订阅共享一次加载 */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightRetrievals =
+            new ConcurrentHashMap<>();
+
     public RedisProCache(
             String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration) {
         super(name, cacheWriter, cacheConfiguration);
+        if (isAllowNullValues() && cacheWriter instanceof RedisProCacheWriter writer) {
+            // 按本缓存的值序列化器登记空值负载，写入器据此精确判定空值
+            writer.registerNullValuePayload(name, serializeCacheValue(NullValue.INSTANCE));
+        }
+    }
+
+    /**
+     * 读取缓存值，未命中时在当前线程记录开始时间，供随后的写入计算重新计算耗时
+     */
+    @Override
+    @Nullable
+    protected Object lookup(@NonNull Object key) {
+        Object value = lookupWithLoader(key);
+        if (value == null) {
+            PENDING_LOAD.set(new PendingLoad(createCacheKey(key), System.nanoTime()));
+        }
+        return value;
+    }
+
+    /**
+     * 写入缓存值，紧随同一线程内同一键的未命中时记录重新计算耗时
+     *
+     * <p>耗时随值写入信封，供 {@code PreRefreshMode.PROBABILISTIC} 估算提前刷新的概率。
+     */
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        String cacheKey = createCacheKey(key);
+        long computeMillis = takeComputeMillis(cacheKey);
+        if (computeMillis <= 0 || !(getCacheWriter() instanceof RedisProCacheWriter writer)) {
+            super.put(key, value);
+            return;
+        }
+        writer.put(
+                getName(),
+                serializeCacheKey(cacheKey),
+                serializeCacheValue(toStoreValue(value)),
+                getCacheConfiguration().getTtlFunction().getTimeToLive(key, value),
+                computeMillis);
     }
+
+    /**
+     * 获取当前线程记录的未命中，供拦截器在方法调用结束后恢复
+     *
+     * @return 当前记录，没有时返回 null
+     */
+    @Nullable
+    static PendingLoad currentPendingLoad() {
+        return PENDING_LOAD.get();
+    }
+
+    /**
+     * 恢复方法调用前的未命中记录，丢弃本次调用中未被写入消费的记录（被 condition/unless 拒绝或方法抛出异常），
+     * 避免之后对同一键的写入据此得到错误的重新计算耗时
+     *
+     * @param previous 方法调用前的记录，为 null 时清除
+     */
+    static void restorePendingLoad(@Nullable PendingLoad previous) {
+        if (previous == null) {
+            PENDING_LOAD.remove();
+        } else {
+            PENDING_LOAD.set(previous);
+        }
+    }
+
+    private long takeComputeMillis(String cacheKey) {
+        PendingLoad pending = PENDING_LOAD.get();
+        if (pending == null || !pending.cacheKey().equals(cacheKey)) {
+            return 0L;
+        }
+        PENDING_LOAD.remove();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.startNanos());
+    }
+
+    /**
+     * 拦截器绑定了方法调用时为本次读取提供异步预刷新加载器
+     *
+     * <p>加载器重新调用方法并按本缓存的序列化方式转换结果，写入器据此在后台替换即将过期的值。
+     */
+    @Nullable
+    private Object lookupWithLoader(Object key) {
+        Callable<Object> invocation = PreRefreshLoaderHolder.currentInvocation();
+        if (invocation == null) {
+            return super.lookup(key);
+        }
+        PreRefreshLoader previous =
+                PreRefreshLoaderHolder.bindLoader(
+                        () ->
+                                serializeCacheValue(
+                                        toStoreValue(ObjectUtils.unwrapOptional(invocation.call()))));
+        try {
+            return super.lookup(key);
+        } finally {
+            PreRefreshLoaderHolder.restoreLoader(previous);
+        }
+    }
+
+    /**
+     * 按键单飞加载，替代父类基于整个缓存实例的 synchronized 实现
+     *
+     * <p>同一键的并发调用共享一次 valueLoader 调用及其结果，不同键互不阻塞；跨节点保护由写入器在开启 sync
+     * 且配置了分布式锁时提供。
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper result = get(key);
+        if (result != null) {
+            return (T) result.get();
+        }
+
+        String cacheKey = createCacheKey(key);
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(cacheKey, loading);
+        if (existing != null) {
+            log.debug("Joining in-flight load: cacheName={}, key={}", getName(), cacheKey);
+            // 由其他线程加载并写入，本线程的未命中记录不会被消费
+            takeComputeMillis(cacheKey);
+            return (T) awaitLoad(existing, key, valueLoader);
+        }
+
+        try {
+            Object value = loadOnce(key, cacheKey, valueLoader);
+            loading.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightLoads.remove(cacheKey, loading);
+            // 加载失败或结果未写入时不保留本次未命中的记录
+            takeComputeMillis(cacheKey);
+        }
+    }
+
+    /**
+     * 异步按键单飞加载，供返回 {@code CompletableFuture}/{@code Mono}/{@code Flux} 的方法使用
+     *
+     * <p>同一键的并发订阅共享一次 valueLoader 调用；加载完成后通过写入器异步写回，调用线程与 Redis I/O
+     * 线程都不会阻塞。读取期间绑定由 valueLoader 构建的异步预刷新加载器，写入器在调用线程上捕获后用于后台刷新。
+     */
+    @Override
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(
+            @NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        String cacheKey = createCacheKey(key);
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightRetrievals.putIfAbsent(cacheKey, loading);
+        if (existing != null) {
+            log.debug("Joining in-flight async load: cacheName={}, key={}", getName(), cacheKey);
+            return existing.thenApply(value -> (T) value);
+        }
+
+        retrieveWithLoader(key, valueLoader)
+                .thenCompose(
+                        wrapper ->
+                                wrapper != null
+                                        ? CompletableFuture.completedFuture(wrapper.get())
+                                        : loadAndStoreAsync(key, cacheKey, valueLoader))
+                .whenComplete(
+                        (value, ex) -> {
+                            inFlightRetrievals.remove(cacheKey, loading);
+                            if (ex != null) {
+                                loading.completeExceptionally(ex);
+                            } else {
+                                loading.complete(value);
+                            }
+                        });
+        return loading.thenApply(value -> (T) value);
+    }
+
+    /**
+     * 以 valueLoader 构建异步预刷新加载器并绑定到本次读取，后台刷新时在预刷新线程上等待加载结果
+     */
+    private <T> CompletableFuture<ValueWrapper> retrieveWithLoader(
+            Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        PreRefreshLoader previous =
+                PreRefreshLoaderHolder.bindLoader(
+                        () -> serializeCacheValue(toStoreValue(awaitReload(valueLoader.get()))));
+        try {
+            return retrieve(key);
+        } finally {
+            PreRefreshLoaderHolder.restoreLoader(previous);
+        }
+    }
+
+    @Nullable
+    private static Object awaitReload(CompletableFuture<?> reload) throws Exception {
+        try {
+            return reload.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw ex;
+        }
+    }
+
+    private <T> CompletableFuture<Object> loadAndStoreAsync(
+            Object key, String cacheKey, Supplier<CompletableFuture<T>> valueLoader) {
+        long startNanos = System.nanoTime();
+        return valueLoader
+                .get()
+                .thenCompose(
+                        value -> {
+                            long computeMillis =
+                                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                            return store(key, cacheKey, value, computeMillis)
+                                    .handle(
+                                            (ignored, ex) -> {
+                                                // 写回失败不影响调用方拿到已加载的值，下次读取会重新加载
+                                                if (ex != null) {
+                                                    log.warn(
+                                                            "Failed to store asynchronously loaded value: cacheName={}, key={}",
+                                                            getName(),
+                                                            cacheKey,
+                                                            ex);
+                                                }
+                                                return (Object) value;
+                                            });
+                        });
+    }
+
+    /** 异步写入加载结果，写入器支持时同时记录加载耗时；序列化或写入器同步抛出的异常也以失败的 future 返回 */
+    private CompletableFuture<Void> store(
+            Object key, String cacheKey, Object value, long computeMillis) {
+        try {
+            byte[] binaryKey = serializeCacheKey(cacheKey);
+            byte[] binaryValue = serializeCacheValue(toStoreValue(value));
+            Duration ttl = getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+            if (getCacheWriter() instanceof RedisProCacheWriter writer) {
+                return writer.store(getName(), binaryKey, binaryValue, ttl, computeMillis);
+            }
+            return getCacheWriter().store(getName(), binaryKey, binaryValue, ttl);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * 批量读取，Redis 读取合并为一次 MGET
+     *
+     * <p>写入器不是 {@link RedisProCacheWriter} 时退化为逐键读取。
+     *
+     * @param keys 缓存键
+     * @return 命中的键及其值，未命中的键不包含在结果中
+     */
+    @NonNull
+    public Map<Object, ValueWrapper> getAll(@NonNull Collection<?> keys) {
+        Map<Object, ValueWrapper> hits = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return hits;
+        }
+        if (!(getCacheWriter() instanceof RedisProCacheWriter writer)) {
+            for (Object key : keys) {
+                ValueWrapper wrapper = get(key);
+                if (wrapper != null) {
+                    hits.put(key, wrapper);
+                }
+            }
+            return hits;
+        }
+
+        List<Object> orderedKeys = new ArrayList<>(keys);
+        List<byte[]> binaryKeys = new ArrayList<>(orderedKeys.size());
+        for (Object key : orderedKeys) {
+            binaryKeys.add(serializeCacheKey(createCacheKey(key)));
+        }
+        List<byte[]> values = writer.getAll(getName(), binaryKeys);
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                hits.put(orderedKeys.get(i), toValueWrapper(deserializeCacheValue(value)));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 批量写入，Redis 写入合并为一个 pipeline
+     *
+     * <p>写入器不是 {@link RedisProCacheWriter} 时退化为逐键写入。
+     *
+     * @param entries 待写入的键值
+     */
+    public void putAll(@NonNull Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!(getCacheWriter() instanceof RedisProCacheWriter writer)) {
+            entries.forEach(this::put);
+            return;
+        }
+
+        List<RedisProCacheWriter.BatchEntry> batch = new ArrayList<>(entries.size());
+        entries.forEach(
+                (key, value) ->
+                        batch.add(
+                                new RedisProCacheWriter.BatchEntry(
+                                        serializeCacheKey(createCacheKey(key)),
+                                        serializeCacheValue(toStoreValue(value)),
+                                        getCacheConfiguration()
+                                                .getTtlFunction()
+                                                .getTimeToLive(key, value))));
+        writer.putAll(getName(), batch);
+    }
+
+    private <T> Object loadOnce(Object key, String cacheKey, Callable<T> valueLoader) {
+        if (getCacheWriter() instanceof RedisProCacheWriter writer) {
+            return writer.executeLoad(
+                    getName(),
+                    serializeCacheKey(cacheKey),
+                    () -> loadIfAbsent(key, valueLoader));
+        }
+        return loadIfAbsent(key, valueLoader);
+    }
+
+    /** 再次检查缓存（可能已被其他节点或前一次加载写入），仍未命中时回源并写入 */
+    @Nullable
+    private <T> Object loadIfAbsent(Object key, Callable<T> valueLoader) {
+        ValueWrapper result = get(key);
+        if (result != null) {
+            return result.get();
+        }
+        return loadCacheValue(key, valueLoader);
+    }
+
+    @Nullable
+    private Object awaitLoad(
+            CompletableFuture<Object> loading, Object key, Callable<?> valueLoader) {
+        try {
+            return loading.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    record PendingLoad(String cacheKey, long startNanos) {}
 }
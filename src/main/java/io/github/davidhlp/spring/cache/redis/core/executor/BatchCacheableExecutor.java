@@ -0,0 +1,289 @@
+package io.github.davidhlp.spring.cache.redis.core.executor;
+
+import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheable;
+import io.github.davidhlp.spring.cache.redis.core.RedisProCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 批量 {@link RedisCacheable} 方法的执行器
+ *
+ * <p>将集合参数拆分为逐元素的缓存键，通过 {@link RedisProCache#getAll} 一次读取，仅以未命中的元素调用方法，
+ * 加载结果通过 {@link RedisProCache#putAll} 以 pipeline 写回，最后按参数顺序重新组装返回值。
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchCacheableExecutor {
+
+    private final CacheManager cacheManager;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+
+    /**
+     * 判断批量方法声明的返回类型是否受支持。返回值按声明类型组装为 {@link ArrayList}、{@link LinkedHashSet} 或
+     * {@link LinkedHashMap}，因此只接受这些实现可以赋值的接口类型
+     *
+     * @param returnType 方法声明的返回类型
+     * @return 为 List、Set、Collection 或 Map 时返回 true
+     */
+    public static boolean isSupportedReturnType(Class<?> returnType) {
+        return returnType == List.class
+                || returnType == Set.class
+                || returnType == Collection.class
+                || returnType == Map.class;
+    }
+
+    /**
+     * 查找批量方法中承载元素键的参数位置
+     *
+     * @param method 方法
+     * @return 第一个集合或数组参数的下标，不存在时返回 -1
+     */
+    public static int findBatchParameterIndex(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (Collection.class.isAssignableFrom(parameterTypes[i]) || parameterTypes[i].isArray()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 执行批量缓存方法
+     *
+     * @param invocation 方法调用
+     * @param annotation 批量缓存注解
+     * @return 按参数顺序组装的结果
+     * @throws Throwable 方法本身抛出的异常
+     */
+    @Nullable
+    public Object execute(MethodInvocation invocation, RedisCacheable annotation) throws Throwable {
+        Method method = invocation.getMethod();
+        Object[] args = invocation.getArguments();
+        int index = findBatchParameterIndex(method);
+        Object batchArgument = args[index];
+        if (batchArgument == null) {
+            return invocation.proceed();
+        }
+
+        List<Object> elementKeys = new ArrayList<>(new LinkedHashSet<>(toList(batchArgument)));
+        String[] cacheNames =
+                annotation.cacheNames().length > 0 ? annotation.cacheNames() : annotation.value();
+        List<Cache> caches = resolveCaches(cacheNames);
+
+        Map<Object, Object> values = new HashMap<>();
+        List<Object> misses = lookup(caches.get(0), elementKeys, values);
+
+        if (!misses.isEmpty()) {
+            log.debug(
+                    "Batch cache partially missed, loading {} of {} elements: method={}",
+                    misses.size(),
+                    elementKeys.size(),
+                    method.getName());
+            Object[] missArgs = args.clone();
+            missArgs[index] = narrow(batchArgument, misses, method.getParameterTypes()[index]);
+            Object loaded = proceedWith(invocation, missArgs);
+
+            Map<Object, Object> loadedValues = index(loaded, misses, annotation);
+            if (annotation.cacheNullValues()) {
+                for (Object miss : misses) {
+                    loadedValues.putIfAbsent(miss, null);
+                }
+            }
+            for (Cache cache : caches) {
+                store(cache, loadedValues);
+            }
+            values.putAll(loadedValues);
+        } else {
+            log.debug(
+                    "Batch cache fully hit: method={}, elements={}",
+                    method.getName(),
+                    elementKeys.size());
+        }
+
+        return assemble(method.getReturnType(), elementKeys, values);
+    }
+
+    private List<Cache> resolveCaches(String[] cacheNames) {
+        List<Cache> caches = new ArrayList<>(cacheNames.length);
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                throw new IllegalStateException("Cannot find cache named '" + cacheName + "'");
+            }
+            caches.add(cache);
+        }
+        return caches;
+    }
+
+    /** 读取已缓存的元素，返回未命中的元素键 */
+    private List<Object> lookup(Cache cache, List<Object> elementKeys, Map<Object, Object> values) {
+        Map<Object, Cache.ValueWrapper> hits;
+        if (cache instanceof RedisProCache proCache) {
+            hits = proCache.getAll(elementKeys);
+        } else {
+            hits = new HashMap<>();
+            for (Object elementKey : elementKeys) {
+                Cache.ValueWrapper wrapper = cache.get(elementKey);
+                if (wrapper != null) {
+                    hits.put(elementKey, wrapper);
+                }
+            }
+        }
+
+        List<Object> misses = new ArrayList<>();
+        for (Object elementKey : elementKeys) {
+            Cache.ValueWrapper wrapper = hits.get(elementKey);
+            if (wrapper != null) {
+                values.put(elementKey, wrapper.get());
+            } else {
+                misses.add(elementKey);
+            }
+        }
+        return misses;
+    }
+
+    private void store(Cache cache, Map<Object, Object> loadedValues) {
+        Map<Object, Object> storable = loadedValues;
+        if (cache instanceof AbstractValueAdaptingCache adaptingCache
+                && !adaptingCache.isAllowNullValues()
+                && loadedValues.containsValue(null)) {
+            storable = new LinkedHashMap<>(loadedValues);
+            storable.values().removeIf(Objects::isNull);
+        }
+        if (storable.isEmpty()) {
+            return;
+        }
+        if (cache instanceof RedisProCache proCache) {
+            proCache.putAll(storable);
+        } else {
+            storable.forEach(cache::put);
+        }
+    }
+
+    @Nullable
+    private Object proceedWith(MethodInvocation invocation, Object[] args) throws Throwable {
+        if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+            return proxyInvocation.invocableClone(args).proceed();
+        }
+        return AopUtils.invokeJoinpointUsingReflection(
+                invocation.getThis(), invocation.getMethod(), args);
+    }
+
+    /** 将方法返回值按元素键建立索引 */
+    private Map<Object, Object> index(
+            @Nullable Object loaded, List<Object> misses, RedisCacheable annotation) {
+        Map<Object, Object> indexed = new LinkedHashMap<>();
+        if (loaded == null) {
+            return indexed;
+        }
+        if (loaded instanceof Map<?, ?> map) {
+            map.forEach(indexed::put);
+            return indexed;
+        }
+
+        List<Object> elements = toList(loaded);
+        if (StringUtils.hasText(annotation.batchElementKey())) {
+            Expression expression =
+                    expressionCache.computeIfAbsent(
+                            annotation.batchElementKey(), parser::parseExpression);
+            for (Object element : elements) {
+                if (element != null) {
+                    indexed.put(expression.getValue(element), element);
+                }
+            }
+            return indexed;
+        }
+
+        if (elements.size() != misses.size()) {
+            throw new IllegalStateException(
+                    "Batch method returned "
+                            + elements.size()
+                            + " elements for "
+                            + misses.size()
+                            + " requested keys; set 'batchElementKey' to match elements by key");
+        }
+        for (int i = 0; i < misses.size(); i++) {
+            indexed.put(misses.get(i), elements.get(i));
+        }
+        return indexed;
+    }
+
+    /** 按参数顺序组装返回值，缺失（含空值）的元素不包含在结果中；返回类型已由 {@link #isSupportedReturnType} 校验 */
+    private Object assemble(Class<?> returnType, List<Object> elementKeys, Map<Object, Object> values) {
+        if (returnType == Map.class) {
+            Map<Object, Object> result = new LinkedHashMap<>();
+            for (Object elementKey : elementKeys) {
+                Object value = values.get(elementKey);
+                if (value != null) {
+                    result.put(elementKey, value);
+                }
+            }
+            return result;
+        }
+
+        Collection<Object> result =
+                returnType == Set.class ? new LinkedHashSet<>() : new ArrayList<>();
+        for (Object elementKey : elementKeys) {
+            Object value = values.get(elementKey);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /** 构造只包含未命中元素的参数，保持原参数的集合类型 */
+    private Object narrow(Object original, List<Object> misses, Class<?> parameterType) {
+        if (parameterType.isArray()) {
+            Object array = Array.newInstance(parameterType.getComponentType(), misses.size());
+            for (int i = 0; i < misses.size(); i++) {
+                Array.set(array, i, misses.get(i));
+            }
+            return array;
+        }
+        if (original instanceof Set<?>) {
+            return new LinkedHashSet<>(misses);
+        }
+        return new ArrayList<>(misses);
+    }
+
+    private static List<Object> toList(Object source) {
+        if (source instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        }
+        int length = Array.getLength(source);
+        List<Object> list = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            list.add(Array.get(source, i));
+        }
+        return list;
+    }
+}
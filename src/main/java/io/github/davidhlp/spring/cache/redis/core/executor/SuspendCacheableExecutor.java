@@ -0,0 +1,299 @@
+package io.github.davidhlp.spring.cache.redis.core.executor;
+
+import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheable;
+
+import kotlin.Result;
+import kotlin.coroutines.Continuation;
+import kotlin.coroutines.CoroutineContext;
+import kotlin.coroutines.intrinsics.IntrinsicsKt;
+import kotlinx.coroutines.CompletableDeferred;
+import kotlinx.coroutines.CompletableDeferredKt;
+import kotlinx.coroutines.Job;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kotlin 挂起函数上 {@link RedisCacheable} 的执行器
+ *
+ * <p>挂起函数编译后最后一个参数为 {@link Continuation}，该参数不参与缓存键的计算。按声明顺序依次查找各缓存，任一命中时直接返回值而不挂起；
+ * 未命中时在原协程内调用方法，通过包装的 Continuation 在方法恢复时写回缓存。开启 sync 时同一键的并发加载共享一个
+ * {@link CompletableDeferred}，其他协程挂起等待其结果。
+ */
+@Slf4j
+public class SuspendCacheableExecutor {
+
+    private final CacheManager cacheManager;
+    private final KeyGenerator keyGenerator;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer =
+            new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableDeferred<Object>> inFlightLoads =
+            new ConcurrentHashMap<>();
+
+    public SuspendCacheableExecutor(CacheManager cacheManager, KeyGenerator keyGenerator) {
+        this.cacheManager = cacheManager;
+        this.keyGenerator = keyGenerator;
+    }
+
+    /**
+     * 判断方法是否为 Kotlin 挂起函数（最后一个参数为 Continuation）
+     *
+     * @param method 方法
+     * @return 挂起函数返回 true
+     */
+    public static boolean isSuspendFunction(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length > 0
+                && Continuation.class.isAssignableFrom(parameterTypes[parameterTypes.length - 1]);
+    }
+
+    /**
+     * 去除挂起函数参数中的 Continuation
+     *
+     * @param method 方法
+     * @param args 原始参数
+     * @return 不含 Continuation 的参数
+     */
+    public static Object[] stripContinuation(Method method, Object[] args) {
+        return isSuspendFunction(method) && args.length > 0
+                ? Arrays.copyOf(args, args.length - 1)
+                : args;
+    }
+
+    /**
+     * 执行挂起函数的缓存逻辑
+     *
+     * @param invocation 方法调用
+     * @param annotation 缓存注解
+     * @return 缓存值、方法的直接返回值或 COROUTINE_SUSPENDED
+     * @throws Throwable 方法本身抛出的异常
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Object execute(MethodInvocation invocation, RedisCacheable annotation) throws Throwable {
+        Method method = invocation.getMethod();
+        Object target = invocation.getThis();
+        Object[] args = invocation.getArguments();
+        Continuation<Object> continuation = (Continuation<Object>) args[args.length - 1];
+        Object[] keyArgs = stripContinuation(method, args);
+
+        if (StringUtils.hasText(annotation.condition())
+                && !evaluateCondition(annotation.condition(), method, target, keyArgs, null)) {
+            return invocation.proceed();
+        }
+
+        String[] cacheNames =
+                annotation.cacheNames().length > 0 ? annotation.cacheNames() : annotation.value();
+        Cache[] caches = resolveCaches(cacheNames);
+        Object key = generateKey(annotation, method, target, keyArgs);
+
+        for (Cache candidate : caches) {
+            Cache.ValueWrapper cached = candidate.get(key);
+            if (cached != null) {
+                log.debug(
+                        "Suspend function cache hit: cacheName={}, key={}",
+                        candidate.getName(),
+                        key);
+                return cached.get();
+            }
+        }
+
+        if (!annotation.sync()) {
+            return load(
+                    invocation,
+                    args,
+                    continuation,
+                    result -> store(annotation, cacheNames, key, method, target, keyArgs, result));
+        }
+
+        Cache cache = caches[0];
+        String flightKey = cache.getName() + "::" + key;
+        CompletableDeferred<Object> leader = CompletableDeferredKt.CompletableDeferred((Job) null);
+        CompletableDeferred<Object> existing = inFlightLoads.putIfAbsent(flightKey, leader);
+        if (existing != null) {
+            log.debug("Joining in-flight suspend load: cacheName={}, key={}", cache.getName(), key);
+            return existing.await(continuation);
+        }
+
+        return load(
+                invocation,
+                args,
+                continuation,
+                result -> {
+                    inFlightLoads.remove(flightKey, leader);
+                    if (result instanceof Result.Failure failure) {
+                        leader.completeExceptionally(failure.exception);
+                    } else {
+                        store(annotation, cacheNames, key, method, target, keyArgs, result);
+                        leader.complete(result);
+                    }
+                });
+    }
+
+    /**
+     * 按声明顺序解析注解中的全部缓存，与 Spring 的 {@code @Cacheable} 一致，任一缓存不存在即报错
+     */
+    private Cache[] resolveCaches(String[] cacheNames) {
+        Cache[] caches = new Cache[cacheNames.length];
+        for (int i = 0; i < cacheNames.length; i++) {
+            Cache cache = cacheManager.getCache(cacheNames[i]);
+            if (cache == null) {
+                throw new IllegalStateException("Cannot find cache named '" + cacheNames[i] + "'");
+            }
+            caches[i] = cache;
+        }
+        return caches;
+    }
+
+    /**
+     * 在原协程内调用方法；方法同步返回时立即回调，挂起时在恢复前回调
+     */
+    @Nullable
+    private Object load(
+            MethodInvocation invocation,
+            Object[] args,
+            Continuation<Object> continuation,
+            CompletionCallback callback)
+            throws Throwable {
+        Object[] loadArgs = args.clone();
+        loadArgs[loadArgs.length - 1] = new CachingContinuation(continuation, callback);
+
+        Object result;
+        try {
+            result = proceedWith(invocation, loadArgs);
+        } catch (Throwable ex) {
+            callback.onComplete(new Result.Failure(ex));
+            throw ex;
+        }
+        if (result != IntrinsicsKt.getCOROUTINE_SUSPENDED()) {
+            callback.onComplete(result);
+        }
+        return result;
+    }
+
+    @Nullable
+    private Object proceedWith(MethodInvocation invocation, Object[] args) throws Throwable {
+        if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+            return proxyInvocation.invocableClone(args).proceed();
+        }
+        return AopUtils.invokeJoinpointUsingReflection(
+                invocation.getThis(), invocation.getMethod(), args);
+    }
+
+    private void store(
+            RedisCacheable annotation,
+            String[] cacheNames,
+            Object key,
+            Method method,
+            Object target,
+            Object[] keyArgs,
+            @Nullable Object result) {
+        if (result instanceof Result.Failure) {
+            return;
+        }
+        if (StringUtils.hasText(annotation.unless())
+                && evaluateCondition(annotation.unless(), method, target, keyArgs, result)) {
+            return;
+        }
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (result == null
+                    && cache instanceof AbstractValueAdaptingCache adaptingCache
+                    && !adaptingCache.isAllowNullValues()) {
+                continue;
+            }
+            try {
+                cache.put(key, result);
+            } catch (RuntimeException ex) {
+                log.error("Failed to cache suspend function result: cacheName={}, key={}", cacheName, key, ex);
+            }
+        }
+    }
+
+    private Object generateKey(RedisCacheable annotation, Method method, Object target, Object[] keyArgs) {
+        if (StringUtils.hasText(annotation.key())) {
+            return expression(annotation.key())
+                    .getValue(evaluationContext(method, target, keyArgs, null));
+        }
+        return keyGenerator.generate(target, method, keyArgs);
+    }
+
+    private boolean evaluateCondition(
+            String condition, Method method, Object target, Object[] keyArgs, @Nullable Object result) {
+        return Boolean.TRUE.equals(
+                expression(condition)
+                        .getValue(evaluationContext(method, target, keyArgs, result), Boolean.class));
+    }
+
+    private Expression expression(String source) {
+        return expressionCache.computeIfAbsent(source, parser::parseExpression);
+    }
+
+    private MethodBasedEvaluationContext evaluationContext(
+            Method method, Object target, Object[] keyArgs, @Nullable Object result) {
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(target, method, keyArgs, parameterNameDiscoverer);
+        context.setVariable("result", result);
+        return context;
+    }
+
+    /** 方法完成（同步返回或协程恢复）时的回调，参数为返回值或 {@link Result.Failure} */
+    @FunctionalInterface
+    private interface CompletionCallback {
+        void onComplete(@Nullable Object result);
+    }
+
+    /** 在恢复调用方协程之前回调结果的 Continuation 包装 */
+    private static final class CachingContinuation implements Continuation<Object> {
+
+        private final Continuation<Object> delegate;
+        private final CompletionCallback callback;
+
+        private CachingContinuation(Continuation<Object> delegate, CompletionCallback callback) {
+            this.delegate = delegate;
+            this.callback = callback;
+        }
+
+        @NotNull
+        @Override
+        public CoroutineContext getContext() {
+            return delegate.getContext();
+        }
+
+        @Override
+        public void resumeWith(@NotNull Object result) {
+            try {
+                callback.onComplete(result);
+            } catch (RuntimeException ex) {
+                log.error("Failed to handle suspend function completion", ex);
+            }
+            delegate.resumeWith(result);
+        }
+    }
+}
@@ -32,6 +32,10 @@ public class CacheableOperationFactory
                 .enablePreRefresh(annotation.enablePreRefresh())
                 .preRefreshThreshold(annotation.preRefreshThreshold())
                 .preRefreshMode(annotation.preRefreshMode())
+                .preRefreshBeta(annotation.preRefreshBeta())
+                .accessSampleRate(annotation.accessSampleRate())
+                .batch(annotation.batch())
+                .batchElementKey(annotation.batchElementKey())
                 .sync(annotation.sync())
                 .syncTimeout(annotation.syncTimeout())
                 .cacheManager(annotation.cacheManager())
@@ -7,25 +7,28 @@ import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOp
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public class CacheableAnnotationHandler extends AnnotationHandler {
 
     private final RedisCacheRegister redisCacheRegister;
-    private final KeyGenerator keyGenerator;
     private final CacheableOperationFactory cacheableOperationFactory;
 
+    /** 方法 -> 已注册的策略模板，策略与调用参数无关，每个方法只解析一次 */
+    private final Map<Method, List<RedisCacheableOperation>> templates = new ConcurrentHashMap<>();
+
     public CacheableAnnotationHandler(
             RedisCacheRegister redisCacheRegister,
-            KeyGenerator keyGenerator,
             CacheableOperationFactory cacheableOperationFactory) {
         this.redisCacheRegister = redisCacheRegister;
-        this.keyGenerator = keyGenerator;
         this.cacheableOperationFactory = cacheableOperationFactory;
     }
 
@@ -36,33 +39,38 @@ public class CacheableAnnotationHandler extends AnnotationHandler {
 
     @Override
     protected void doHandle(Method method, Object target, Object[] args) {
-        RedisCacheable[] cacheables = method.getAnnotationsByType(RedisCacheable.class);
+        if (templates.get(method) == null) {
+            templates.computeIfAbsent(method, this::registerTemplates);
+        }
+    }
 
-        for (RedisCacheable cacheable : cacheables) {
-            registerCacheableOperation(method, target, args, cacheable);
+    private List<RedisCacheableOperation> registerTemplates(Method method) {
+        List<RedisCacheableOperation> operations = new ArrayList<>();
+        for (RedisCacheable cacheable : method.getAnnotationsByType(RedisCacheable.class)) {
+            RedisCacheableOperation operation = registerCacheableTemplate(method, cacheable);
+            if (operation != null) {
+                operations.add(operation);
+            }
         }
+        return operations;
     }
 
-    private void registerCacheableOperation(
-            Method method, Object target, Object[] args, RedisCacheable redisCacheable) {
+    private RedisCacheableOperation registerCacheableTemplate(
+            Method method, RedisCacheable redisCacheable) {
         try {
-            String key = generateKey(target, method, args);
             RedisCacheableOperation operation =
-                    cacheableOperationFactory.create(method, redisCacheable, target, args, key);
+                    cacheableOperationFactory.create(
+                            method, redisCacheable, null, null, redisCacheable.key());
 
-            redisCacheRegister.registerCacheableOperation(operation);
+            redisCacheRegister.registerCacheableTemplate(operation);
             log.debug(
-                    "Registered cacheable operation: {} with key: {} for caches: {}",
+                    "Registered cacheable template: {} for caches: {}",
                     method.getName(),
-                    key,
                     String.join(",", operation.getCacheNames()));
+            return operation;
         } catch (Exception e) {
             log.error("Failed to register cacheable operation", e);
+            return null;
         }
     }
-
-    private String generateKey(Object target, Method method, Object[] args) {
-        Object key = keyGenerator.generate(target, method, args);
-        return String.valueOf(key);
-    }
 }
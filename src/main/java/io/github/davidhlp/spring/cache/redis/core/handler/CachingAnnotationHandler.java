@@ -1,39 +1,36 @@
 package io.github.davidhlp.spring.cache.redis.core.handler;
 
-import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheEvict;
 import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheable;
 import io.github.davidhlp.spring.cache.redis.annotation.RedisCaching;
 import io.github.davidhlp.spring.cache.redis.core.factory.CacheableOperationFactory;
-import io.github.davidhlp.spring.cache.redis.core.factory.EvictOperationFactory;
 import io.github.davidhlp.spring.cache.redis.register.RedisCacheRegister;
-import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheEvictOperation;
 import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public class CachingAnnotationHandler extends AnnotationHandler {
 
     private final RedisCacheRegister redisCacheRegister;
-    private final KeyGenerator keyGenerator;
     private final CacheableOperationFactory cacheableOperationFactory;
-    private final EvictOperationFactory evictOperationFactory;
+
+    /** 方法 -> 已注册的策略模板，策略与调用参数无关，每个方法只解析一次 */
+    private final Map<Method, List<RedisCacheableOperation>> templates = new ConcurrentHashMap<>();
 
     public CachingAnnotationHandler(
             RedisCacheRegister redisCacheRegister,
-            KeyGenerator keyGenerator,
-            CacheableOperationFactory cacheableOperationFactory,
-            EvictOperationFactory evictOperationFactory) {
+            CacheableOperationFactory cacheableOperationFactory) {
         this.redisCacheRegister = redisCacheRegister;
-        this.keyGenerator = keyGenerator;
         this.cacheableOperationFactory = cacheableOperationFactory;
-        this.evictOperationFactory = evictOperationFactory;
     }
 
     @Override
@@ -43,57 +40,41 @@ public class CachingAnnotationHandler extends AnnotationHandler {
 
     @Override
     protected void doHandle(Method method, Object target, Object[] args) {
+        if (templates.get(method) == null) {
+            templates.computeIfAbsent(method, this::registerTemplates);
+        }
+    }
+
+    private List<RedisCacheableOperation> registerTemplates(Method method) {
         RedisCaching caching = method.getAnnotation(RedisCaching.class);
+        List<RedisCacheableOperation> operations = new ArrayList<>();
 
-        // 处理组合注解中的 @RedisCacheable
+        // 处理组合注解中的 @RedisCacheable，@RedisCacheEvict 不携带写入器使用的策略
         for (RedisCacheable cacheable : caching.redisCacheable()) {
-            registerCacheableOperation(method, target, args, cacheable);
-        }
-
-        // 处理组合注解中的 @RedisCacheEvict
-        for (RedisCacheEvict evict : caching.redisCacheEvict()) {
-            registerCacheEvictOperation(method, target, args, evict);
+            RedisCacheableOperation operation = registerCacheableTemplate(method, cacheable);
+            if (operation != null) {
+                operations.add(operation);
+            }
         }
+        return operations;
     }
 
-    private void registerCacheableOperation(
-            Method method, Object target, Object[] args, RedisCacheable redisCacheable) {
+    private RedisCacheableOperation registerCacheableTemplate(
+            Method method, RedisCacheable redisCacheable) {
         try {
-            String key = generateKey(target, method, args);
             RedisCacheableOperation operation =
-                    cacheableOperationFactory.create(method, redisCacheable, target, args, key);
+                    cacheableOperationFactory.create(
+                            method, redisCacheable, null, null, redisCacheable.key());
 
-            redisCacheRegister.registerCacheableOperation(operation);
+            redisCacheRegister.registerCacheableTemplate(operation);
             log.debug(
-                    "Registered cacheable operation from @RedisCaching: {} with key: {} for caches: {}",
+                    "Registered cacheable template from @RedisCaching: {} for caches: {}",
                     method.getName(),
-                    key,
                     String.join(",", operation.getCacheNames()));
+            return operation;
         } catch (Exception e) {
             log.error("Failed to register cacheable operation from @RedisCaching", e);
+            return null;
         }
     }
-
-    private void registerCacheEvictOperation(
-            Method method, Object target, Object[] args, RedisCacheEvict cacheEvict) {
-        try {
-            String key = generateKey(target, method, args);
-            RedisCacheEvictOperation operation =
-                    evictOperationFactory.create(method, cacheEvict, target, args, key);
-
-            redisCacheRegister.registerCacheEvictOperation(operation);
-            log.debug(
-                    "Registered cache evict operation from @RedisCaching: {} with key: {} for caches: {}",
-                    method.getName(),
-                    key,
-                    String.join(",", operation.getCacheNames()));
-        } catch (Exception e) {
-            log.error("Failed to register cache evict operation from @RedisCaching", e);
-        }
-    }
-
-    private String generateKey(Object target, Method method, Object[] args) {
-        Object key = keyGenerator.generate(target, method, args);
-        return String.valueOf(key);
-    }
 }
@@ -1,68 +0,0 @@
-package io.github.davidhlp.spring.cache.redis.core.handler;
-
-import io.github.davidhlp.spring.cache.redis.annotation.RedisCacheEvict;
-import io.github.davidhlp.spring.cache.redis.core.factory.EvictOperationFactory;
-import io.github.davidhlp.spring.cache.redis.register.RedisCacheRegister;
-import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheEvictOperation;
-
-import lombok.extern.slf4j.Slf4j;
-
-import org.springframework.cache.interceptor.KeyGenerator;
-import org.springframework.stereotype.Component;
-
-import java.lang.reflect.Method;
-
-@Slf4j
-@Component
-public class EvictAnnotationHandler extends AnnotationHandler {
-
-    private final RedisCacheRegister redisCacheRegister;
-    private final KeyGenerator keyGenerator;
-    private final EvictOperationFactory evictOperationFactory;
-
-    public EvictAnnotationHandler(
-            RedisCacheRegister redisCacheRegister,
-            KeyGenerator keyGenerator,
-            EvictOperationFactory evictOperationFactory) {
-        this.redisCacheRegister = redisCacheRegister;
-        this.keyGenerator = keyGenerator;
-        this.evictOperationFactory = evictOperationFactory;
-    }
-
-    @Override
-    protected boolean canHandle(Method method) {
-        return method.isAnnotationPresent(RedisCacheEvict.class);
-    }
-
-    @Override
-    protected void doHandle(Method method, Object target, Object[] args) {
-        RedisCacheEvict[] evicts = method.getAnnotationsByType(RedisCacheEvict.class);
-
-        for (RedisCacheEvict evict : evicts) {
-            registerCacheEvictOperation(method, target, args, evict);
-        }
-    }
-
-    private void registerCacheEvictOperation(
-            Method method, Object target, Object[] args, RedisCacheEvict cacheEvict) {
-        try {
-            String key = generateKey(target, method, args);
-            RedisCacheEvictOperation operation =
-                    evictOperationFactory.create(method, cacheEvict, target, args, key);
-
-            redisCacheRegister.registerCacheEvictOperation(operation);
-            log.debug(
-                    "Registered cache evict operation: {} with key: {} for caches: {}",
-                    method.getName(),
-                    key,
-                    String.join(",", operation.getCacheNames()));
-        } catch (Exception e) {
-            log.error("Failed to register cache evict operation", e);
-        }
-    }
-
-    private String generateKey(Object target, Method method, Object[] args) {
-        Object key = keyGenerator.generate(target, method, args);
-        return String.valueOf(key);
-    }
-}
@@ -12,6 +12,9 @@ public class CachedValue {
 
     private Object value;
 
+    /** 缓存序列化器产生的原始字节（pass-through 模式），非空时优先于 value 使用 */
+    private byte[] payload;
+
     private Class<?> type;
     @Builder.Default private long ttl = 60;
 
@@ -25,6 +28,9 @@ public class CachedValue {
 
     @Builder.Default private long version = 1L;
 
+    /** 产生该值的重新计算耗时（毫秒），0 表示未记录 */
+    private long computeMillis;
+
     public static CachedValue of(Object value, long ttl) {
         return CachedValue.builder()
                 .value(value)
@@ -34,6 +40,25 @@ public class CachedValue {
                 .build();
     }
 
+    public static CachedValue ofPayload(byte[] payload, long ttl) {
+        return ofPayload(payload, ttl, 0L);
+    }
+
+    public static CachedValue ofPayload(byte[] payload, long ttl, long computeMillis) {
+        return CachedValue.builder()
+                .payload(payload)
+                .type(byte[].class)
+                .ttl(ttl)
+                .version(System.nanoTime())
+                .computeMillis(computeMillis)
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean hasPayload() {
+        return payload != null;
+    }
+
     @JsonIgnore
     public boolean isExpired() {
         if (expired) {
@@ -62,6 +87,14 @@ public class CachedValue {
         return Math.max(0, remainingMs / 1000);
     }
 
+    @JsonIgnore
+    public long getRemainingMillis() {
+        if (ttl <= 0) {
+            return -1;
+        }
+        return Math.max(0, createdTime + ttl * 1000 - System.currentTimeMillis());
+    }
+
     @JsonIgnore
     public long getAge() {
         return (System.currentTimeMillis() - createdTime) / 1000;
@@ -0,0 +1,154 @@
+package io.github.davidhlp.spring.cache.redis.core.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.support.type.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link CachedValue} 的二进制信封编解码器
+ *
+ * <p>格式（大端序）：
+ *
+ * <pre>
+ * | magic(1) | format(1) | flags(1) | reserved(1) | createdTime(8) | ttl(8) | version(8) | payload(n) |
+ * </pre>
+ *
+ * <p>记录了重新计算耗时的值使用格式 2，在 version 之后追加 computeMillis(8)，其余字段位置不变；未记录耗时的值仍写为格式 1。
+ *
+ * <p>payload 为缓存序列化器产生的原始字节，原样存取。不以 magic 开头的数据按旧版 Jackson JSON 格式读取，以便平滑迁移。
+ */
+@Slf4j
+@Component
+public class CachedValueCodec {
+
+    /** 信封魔数，JSON（以 '{' 或 '[' 开头）不会与之冲突 */
+    static final byte MAGIC = (byte) 0xCB;
+
+    /** 基础信封格式版本 */
+    static final byte FORMAT_V1 = 1;
+
+    /** 携带重新计算耗时的信封格式版本 */
+    static final byte FORMAT_V2 = 2;
+
+    /** 格式 1 固定头部长度 */
+    static final int HEADER_LENGTH = 28;
+
+    /** 格式 2 固定头部长度 */
+    static final int HEADER_LENGTH_V2 = 36;
+
+    private static final byte FLAG_EXPIRED = 0x01;
+
+    private final GenericJackson2JsonRedisSerializer legacySerializer;
+
+    public CachedValueCodec(ObjectMapper objectMapper) {
+        this.legacySerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    /**
+     * 编码缓存值
+     *
+     * @param cachedValue 缓存值，必须包含 payload
+     * @return 二进制信封
+     */
+    @NonNull
+    public byte[] encode(@NonNull CachedValue cachedValue) {
+        byte[] payload = cachedValue.getPayload();
+        if (payload == null) {
+            throw new SerializationException("CachedValue payload must not be null for binary encoding");
+        }
+        boolean withComputeTime = cachedValue.getComputeMillis() > 0;
+        int headerLength = withComputeTime ? HEADER_LENGTH_V2 : HEADER_LENGTH;
+        ByteBuffer buffer = ByteBuffer.allocate(headerLength + payload.length);
+        buffer.put(MAGIC);
+        buffer.put(withComputeTime ? FORMAT_V2 : FORMAT_V1);
+        buffer.put(cachedValue.isExpired() ? FLAG_EXPIRED : 0);
+        buffer.put((byte) 0);
+        buffer.putLong(cachedValue.getCreatedTime());
+        buffer.putLong(cachedValue.getTtl());
+        buffer.putLong(cachedValue.getVersion());
+        if (withComputeTime) {
+            buffer.putLong(cachedValue.getComputeMillis());
+        }
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    /**
+     * 解码缓存值，兼容旧版 JSON 格式
+     *
+     * @param bytes Redis 中读取的原始字节
+     * @return 缓存值，输入为空时返回 null
+     */
+    @Nullable
+    public CachedValue decode(@Nullable byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (isBinaryEnvelope(bytes)) {
+            return decodeBinary(bytes);
+        }
+        return decodeLegacy(bytes);
+    }
+
+    /**
+     * 判断字节是否为二进制信封格式
+     *
+     * @param bytes 原始字节
+     * @return 是二进制信封返回 true
+     */
+    public boolean isBinaryEnvelope(@NonNull byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC) {
+            return false;
+        }
+        return bytes[1] == FORMAT_V1 || (bytes[1] == FORMAT_V2 && bytes.length >= HEADER_LENGTH_V2);
+    }
+
+    private CachedValue decodeBinary(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = bytes[1];
+        buffer.position(2);
+        byte flags = buffer.get();
+        buffer.get();
+        long createdTime = buffer.getLong();
+        long ttl = buffer.getLong();
+        long version = buffer.getLong();
+        long computeMillis = format == FORMAT_V2 ? buffer.getLong() : 0L;
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+
+        return CachedValue.builder()
+                .payload(payload)
+                .type(byte[].class)
+                .createdTime(createdTime)
+                .ttl(ttl)
+                .version(version)
+                .computeMillis(computeMillis)
+                .expired((flags & FLAG_EXPIRED) != 0)
+                .build();
+    }
+
+    private CachedValue decodeLegacy(byte[] bytes) {
+        Object value;
+        try {
+            value = legacySerializer.deserialize(bytes);
+        } catch (Exception e) {
+            throw new SerializationException("Failed to decode legacy cached value", e);
+        }
+        if (value instanceof CachedValue cachedValue) {
+            return cachedValue;
+        }
+        log.warn(
+                "Ignoring unrecognized cache entry format: type={}",
+                value != null ? value.getClass().getName() : "null");
+        return null;
+    }
+}
@@ -4,7 +4,10 @@ import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheHandlerChain
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheHandlerChainFactory;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheOperation;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheResult;
+import io.github.davidhlp.spring.cache.redis.core.writer.chain.handler.BatchContext;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.handler.CacheContext;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.lock.SyncSupport;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoaderHolder;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.type.TypeSupport;
 import io.github.davidhlp.spring.cache.redis.register.RedisCacheRegister;
 import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
@@ -15,13 +18,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.cache.CacheStatistics;
 import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Redis 增强缓存写入器（基于责任链模式重构）
@@ -30,22 +40,29 @@ import java.util.concurrent.CompletableFuture;
  * 支持空值缓存
  *
  * <p>责任链顺序： BloomFilterHandler → SyncLockHandler → TtlHandler → NullValueHandler →
- * ActualCacheHandler
+ * LocalCacheHandler → ActualCacheHandler
  */
 @Slf4j
 @RequiredArgsConstructor
 public class RedisProCacheWriter implements RedisCacheWriter {
 
+    /** 加载锁的默认超时时间（秒） */
+    private static final long DEFAULT_LOAD_LOCK_TIMEOUT = 10;
+
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ValueOperations<String, Object> valueOperations;
     private final CacheStatisticsCollector statistics;
     private final RedisCacheRegister redisCacheRegister;
     private final TypeSupport typeSupport;
     private final CacheHandlerChainFactory chainFactory;
+    private final CachedValueCodec cachedValueCodec;
+    private final SyncSupport syncSupport;
 
     /** 缓存的责任链实例（单例，避免每次创建） */
     private volatile CacheHandlerChain cachedChain;
 
+    /** 缓存名称 -> 该缓存值序列化器对 NullValue 的序列化结果 */
+    private final Map<String, byte[]> nullValuePayloads = new ConcurrentHashMap<>();
+
     @Override
     @Nullable
     public byte[] get(@NonNull String name, @NonNull byte[] key) {
@@ -68,9 +85,14 @@ public class RedisProCacheWriter implements RedisCacheWriter {
         return result.getResultBytes();
     }
 
+    /**
+     * 始终支持异步读取：连接工厂支持响应式 API（Lettuce）时通过响应式命令完成，否则在调用线程上同步执行责任链
+     *
+     * @return 始终返回 true
+     */
     @Override
     public boolean supportsAsyncRetrieve() {
-        return RedisCacheWriter.super.supportsAsyncRetrieve();
+        return true;
     }
 
     @Override
@@ -83,7 +105,17 @@ public class RedisProCacheWriter implements RedisCacheWriter {
     @NonNull
     public CompletableFuture<byte[]> retrieve(
             @NonNull String name, @NonNull byte[] key, @Nullable Duration ttl) {
-        return CompletableFuture.supplyAsync(() -> get(name, key, ttl));
+        String redisKey = typeSupport.bytesToString(key);
+        String actualKey = extractActualKey(name, redisKey);
+
+        CacheContext context =
+                buildContext(CacheOperation.GET, name, redisKey, actualKey, null, ttl);
+
+        // 非阻塞执行责任链，Redis I/O 通过响应式连接完成，不占用公共线程池
+        return getChain()
+                .executeAsync(context)
+                .thenApply(CacheResult::getResultBytes)
+                .toCompletableFuture();
     }
 
     /**
@@ -104,9 +136,6 @@ public class RedisProCacheWriter implements RedisCacheWriter {
         String redisKey = typeSupport.bytesToString(key);
         String actualKey = extractActualKey(name, redisKey);
 
-        // 反序列化值
-        Object deserializedValue = typeSupport.deserializeFromBytes(value);
-
         // 构建上下文（带操作配置）
         CacheContext context =
                 CacheContext.builder()
@@ -115,15 +144,41 @@ public class RedisProCacheWriter implements RedisCacheWriter {
                         .redisKey(redisKey)
                         .actualKey(actualKey)
                         .valueBytes(value)
-                        .deserializedValue(deserializedValue)
                         .ttl(ttl)
                         .cacheOperation(operation)
                         .build();
+        prepareValue(context, value);
 
         // 执行责任链（使用缓存的 chain 实例）
         getChain().execute(context);
     }
 
+    /**
+     * 记录重新计算耗时的 put 方法（从 RedisProCache 调用），耗时写入缓存值信封供概率预刷新使用
+     *
+     * @param name 缓存名称
+     * @param key 缓存key
+     * @param value 缓存值
+     * @param ttl TTL
+     * @param computeMillis 从未命中到写入的耗时（毫秒）
+     */
+    public void put(
+            @NonNull String name,
+            @NonNull byte[] key,
+            @NonNull byte[] value,
+            @Nullable Duration ttl,
+            long computeMillis) {
+        String redisKey = typeSupport.bytesToString(key);
+        String actualKey = extractActualKey(name, redisKey);
+
+        CacheContext context =
+                buildContext(CacheOperation.PUT, name, redisKey, actualKey, value, ttl);
+        context.setComputeMillis(computeMillis);
+        prepareValue(context, value);
+
+        getChain().execute(context);
+    }
+
     @Override
     public void put(
             @NonNull String name,
@@ -133,13 +188,10 @@ public class RedisProCacheWriter implements RedisCacheWriter {
         String redisKey = typeSupport.bytesToString(key);
         String actualKey = extractActualKey(name, redisKey);
 
-        // 反序列化值
-        Object deserializedValue = typeSupport.deserializeFromBytes(value);
-
         // 构建上下文
         CacheContext context =
                 buildContext(CacheOperation.PUT, name, redisKey, actualKey, value, ttl);
-        context.setDeserializedValue(deserializedValue);
+        prepareValue(context, value);
 
         // 执行责任链（使用缓存的 chain 实例）
         getChain().execute(context);
@@ -152,7 +204,38 @@ public class RedisProCacheWriter implements RedisCacheWriter {
             @NonNull byte[] key,
             @NonNull byte[] value,
             @Nullable Duration ttl) {
-        return CompletableFuture.runAsync(() -> put(name, key, value, ttl));
+        return store(name, key, value, ttl, 0L);
+    }
+
+    /**
+     * 记录重新计算耗时的异步写入（从 RedisProCache 调用），耗时写入缓存值信封供概率预刷新使用
+     *
+     * @param name 缓存名称
+     * @param key 缓存key
+     * @param value 缓存值
+     * @param ttl TTL
+     * @param computeMillis 异步加载的耗时（毫秒），0 表示未记录
+     * @return 写入完成的 future
+     */
+    @NonNull
+    public CompletableFuture<Void> store(
+            @NonNull String name,
+            @NonNull byte[] key,
+            @NonNull byte[] value,
+            @Nullable Duration ttl,
+            long computeMillis) {
+        String redisKey = typeSupport.bytesToString(key);
+        String actualKey = extractActualKey(name, redisKey);
+
+        CacheContext context =
+                buildContext(CacheOperation.PUT, name, redisKey, actualKey, value, ttl);
+        context.setComputeMillis(computeMillis);
+        prepareValue(context, value);
+
+        return getChain()
+                .executeAsync(context)
+                .<Void>thenApply(result -> null)
+                .toCompletableFuture();
     }
 
     @Override
@@ -165,13 +248,10 @@ public class RedisProCacheWriter implements RedisCacheWriter {
         String redisKey = typeSupport.bytesToString(key);
         String actualKey = extractActualKey(name, redisKey);
 
-        // 反序列化值
-        Object deserializedValue = typeSupport.deserializeFromBytes(value);
-
         // 构建上下文
         CacheContext context =
                 buildContext(CacheOperation.PUT_IF_ABSENT, name, redisKey, actualKey, value, ttl);
-        context.setDeserializedValue(deserializedValue);
+        prepareValue(context, value);
 
         // 执行责任链（使用缓存的 chain 实例）
         CacheResult result = getChain().execute(context);
@@ -206,6 +286,145 @@ public class RedisProCacheWriter implements RedisCacheWriter {
         getChain().execute(context);
     }
 
+    /**
+     * 批量读取：责任链按键逐个应用策略，Redis 读取合并为一次 MGET
+     *
+     * @param name 缓存名称
+     * @param keys 缓存key列表
+     * @return 与 keys 一一对应的结果，未命中的位置为 null
+     */
+    @NonNull
+    public List<byte[]> getAll(@NonNull String name, @NonNull List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<String> redisKeys = new ArrayList<>(keys.size());
+        List<String> actualKeys = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            String redisKey = typeSupport.bytesToString(key);
+            redisKeys.add(redisKey);
+            actualKeys.add(extractActualKey(name, redisKey));
+        }
+
+        BatchContext batch = new BatchContext(actualKeys);
+        byte[][] rawKeys = keys.toArray(new byte[0][]);
+        List<byte[]> rawValues =
+                redisTemplate.execute(
+                        (RedisCallback<List<byte[]>>)
+                                connection -> connection.stringCommands().mGet(rawKeys));
+        for (int i = 0; i < redisKeys.size(); i++) {
+            byte[] raw = rawValues != null && i < rawValues.size() ? rawValues.get(i) : null;
+            batch.prefetch(redisKeys.get(i), raw);
+        }
+
+        List<byte[]> results = new ArrayList<>(keys.size());
+        for (int i = 0; i < redisKeys.size(); i++) {
+            CacheContext context =
+                    buildContext(
+                            CacheOperation.GET, name, redisKeys.get(i), actualKeys.get(i), null, null);
+            context.setBatch(batch);
+            results.add(getChain().execute(context).getResultBytes());
+        }
+
+        log.debug("Batch cache retrieval completed: cacheName={}, keys={}", name, keys.size());
+        return results;
+    }
+
+    /**
+     * 批量写入：责任链按键逐个应用策略，Redis 写入合并为一个 SET pipeline
+     *
+     * @param name 缓存名称
+     * @param entries 待写入的条目
+     */
+    public void putAll(@NonNull String name, @NonNull List<BatchEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> redisKeys = new ArrayList<>(entries.size());
+        List<String> actualKeys = new ArrayList<>(entries.size());
+        for (BatchEntry entry : entries) {
+            String redisKey = typeSupport.bytesToString(entry.key());
+            redisKeys.add(redisKey);
+            actualKeys.add(extractActualKey(name, redisKey));
+        }
+
+        BatchContext batch = new BatchContext(actualKeys);
+        for (int i = 0; i < entries.size(); i++) {
+            BatchEntry entry = entries.get(i);
+            CacheContext context =
+                    buildContext(
+                            CacheOperation.PUT,
+                            name,
+                            redisKeys.get(i),
+                            actualKeys.get(i),
+                            entry.value(),
+                            entry.ttl());
+            context.setBatch(batch);
+            prepareValue(context, entry.value());
+            getChain().execute(context);
+        }
+
+        List<BatchContext.PendingWrite> writes = batch.getPendingWrites();
+        if (!writes.isEmpty()) {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                for (BatchContext.PendingWrite write : writes) {
+                                    connection
+                                            .stringCommands()
+                                            .set(
+                                                    write.key(),
+                                                    write.value(),
+                                                    write.expiration(),
+                                                    SetOption.upsert());
+                                }
+                                return null;
+                            });
+        }
+        batch.runAfterWrite();
+
+        log.debug(
+                "Batch cache storage completed: cacheName={}, entries={}, written={}",
+                name,
+                entries.size(),
+                writes.size());
+    }
+
+    /**
+     * 执行缓存未命中后的加载逻辑
+     *
+     * <p>仅当该缓存操作开启 sync 且配置了分布式锁管理器时，才在分布式锁内执行加载，提供跨节点保护；
+     * 同一节点内的并发加载由 {@code RedisProCache} 的单飞机制合并。
+     *
+     * @param name 缓存名称
+     * @param key 缓存key
+     * @param loader 加载逻辑（包含回源与写入）
+     * @param <T> 返回值类型
+     * @return 加载结果
+     */
+    public <T> T executeLoad(@NonNull String name, @NonNull byte[] key, Supplier<T> loader) {
+        if (!syncSupport.hasDistributedLockManagers()) {
+            return loader.get();
+        }
+
+        String redisKey = typeSupport.bytesToString(key);
+        RedisCacheableOperation operation = redisCacheRegister.getCacheableOperation(name);
+        if (operation == null || !operation.isSync()) {
+            return loader.get();
+        }
+
+        long timeout =
+                operation.getSyncTimeout() > 0
+                        ? operation.getSyncTimeout()
+                        : DEFAULT_LOAD_LOCK_TIMEOUT;
+        log.debug(
+                "Loading cache value under distributed lock: cacheName={}, key={}, timeout={}s",
+                name,
+                redisKey,
+                timeout);
+        return syncSupport.executeSync(redisKey, loader, timeout);
+    }
+
     @Override
     public void clearStatistics(@NonNull String name) {
         log.debug("Starting cache statistics cleanup: cacheName={}", name);
@@ -219,11 +438,12 @@ public class RedisProCacheWriter implements RedisCacheWriter {
             @NonNull CacheStatisticsCollector cacheStatisticsCollector) {
         return new RedisProCacheWriter(
                 redisTemplate,
-                valueOperations,
                 cacheStatisticsCollector,
                 redisCacheRegister,
                 typeSupport,
-                chainFactory);
+                chainFactory,
+                cachedValueCodec,
+                syncSupport);
     }
 
     @Override
@@ -253,7 +473,7 @@ public class RedisProCacheWriter implements RedisCacheWriter {
 
         // 获取缓存操作配置
         RedisCacheableOperation cacheOperation =
-                redisCacheRegister.getCacheableOperation(cacheName, actualKey);
+                redisCacheRegister.getCacheableOperation(cacheName);
 
         return CacheContext.builder()
                 .operation(operation)
@@ -263,9 +483,34 @@ public class RedisProCacheWriter implements RedisCacheWriter {
                 .valueBytes(valueBytes)
                 .ttl(ttl)
                 .cacheOperation(cacheOperation)
+                // 读取时在调用线程上捕获加载器，异步读取的后续处理运行在 Redis I/O 线程上
+                .preRefreshLoader(
+                        operation == CacheOperation.GET ? PreRefreshLoaderHolder.currentLoader() : null)
                 .build();
     }
 
+    /**
+     * 登记缓存的空值负载，写入时与之逐字节比较判定空值
+     *
+     * @param name 缓存名称
+     * @param payload 该缓存值序列化器对 {@code NullValue.INSTANCE} 的序列化结果
+     */
+    public void registerNullValuePayload(@NonNull String name, @NonNull byte[] payload) {
+        nullValuePayloads.put(name, payload);
+    }
+
+    /**
+     * 准备写入的值：序列化字节直接透传，仅做空值判定，不再反序列化
+     *
+     * @param context 缓存上下文
+     * @param value 缓存序列化器产生的字节
+     */
+    private void prepareValue(CacheContext context, byte[] value) {
+        context.setNullValue(
+                typeSupport.isNullValuePayload(
+                        value, nullValuePayloads.get(context.getCacheName())));
+    }
+
     /**
      * 从完整的Redis key中提取实际的key部分 Redis key格式: {cacheName}::{actualKey}
      *
@@ -283,17 +528,34 @@ public class RedisProCacheWriter implements RedisCacheWriter {
 
     // 以下方法用于向后兼容，如果有其他地方调用
     protected long getTtl(String redisKey) {
-        CachedValue cachedValue = (CachedValue) valueOperations.get(redisKey);
+        byte[] raw =
+                redisTemplate.execute(
+                        (RedisCallback<byte[]>)
+                                connection -> connection.stringCommands().get(key(redisKey)));
+        CachedValue cachedValue = cachedValueCodec.decode(raw);
         if (cachedValue != null) {
             return cachedValue.getTtl();
         }
         return -1;
     }
 
+    private static byte[] key(String redisKey) {
+        return redisKey.getBytes(StandardCharsets.UTF_8);
+    }
+
     protected long getExpiration(String redisKey) {
         return redisTemplate.getExpire(redisKey);
     }
 
+    /**
+     * 批量写入的单个条目
+     *
+     * @param key 缓存key
+     * @param value 缓存值
+     * @param ttl TTL
+     */
+    public record BatchEntry(byte[] key, byte[] value, @Nullable Duration ttl) {}
+
     /**
      * 获取缓存的责任链实例（懒加载 + 双重检查锁）
      *
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /** 缓存处理器责任链管理器 */
 @Slf4j
@@ -61,6 +63,27 @@ public class CacheHandlerChain {
         return head.handle(context);
     }
 
+    /**
+     * 非阻塞地执行责任链
+     *
+     * @param context 缓存上下文
+     * @return 处理结果
+     */
+    public CompletionStage<CacheResult> executeAsync(CacheContext context) {
+        if (head == null) {
+            log.warn("Handler chain is empty!");
+            return CompletableFuture.completedFuture(CacheResult.success());
+        }
+
+        log.debug(
+                "Executing handler chain asynchronously for operation: {}, cacheName: {}, key: {}",
+                context.getOperation(),
+                context.getCacheName(),
+                context.getRedisKey());
+
+        return head.handleAsync(context);
+    }
+
     /**
      * 获取处理器数量
      *
@@ -9,7 +9,8 @@ import org.springframework.stereotype.Component;
  * 缓存处理器责任链工厂 职责：构建和配置责任链
  *
  * <p>责任链顺序： 1. BloomFilterHandler - 布隆过滤器检查（防止缓存穿透） 2. SyncLockHandler - 同步锁处理（防止缓存击穿） 3.
- * TtlHandler - TTL 计算和配置 4. NullValueHandler - 空值处理 5. ActualCacheHandler - 实际缓存操作
+ * TtlHandler - TTL 计算和配置 4. NullValueHandler - 空值处理 5. LocalCacheHandler - 进程内二级缓存 6.
+ * ActualCacheHandler - 实际缓存操作
  */
 @Slf4j
 @Component
@@ -20,6 +21,7 @@ public class CacheHandlerChainFactory {
     private final SyncLockHandler syncLockHandler;
     private final TtlHandler ttlHandler;
     private final NullValueHandler nullValueHandler;
+    private final LocalCacheHandler localCacheHandler;
     private final ActualCacheHandler actualCacheHandler;
 
     /**
@@ -31,7 +33,7 @@ public class CacheHandlerChainFactory {
         CacheHandlerChain chain = new CacheHandlerChain();
 
         // 按顺序添加处理器
-        chain.addHandler(bloomFilterHandler).addHandler(syncLockHandler).addHandler(ttlHandler).addHandler(nullValueHandler).addHandler(actualCacheHandler);
+        chain.addHandler(bloomFilterHandler).addHandler(syncLockHandler).addHandler(ttlHandler).addHandler(nullValueHandler).addHandler(localCacheHandler).addHandler(actualCacheHandler);
 
         log.info("Cache handler chain created with {} handlers: {}", chain.size(), chain.getHandlerNames());
 
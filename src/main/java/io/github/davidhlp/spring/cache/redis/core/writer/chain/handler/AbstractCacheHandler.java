@@ -5,6 +5,9 @@ import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheResult;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /** 抽象缓存处理器，提供责任链的基础实现 */
 @Getter
 @Setter
@@ -31,13 +34,26 @@ abstract class AbstractCacheHandler implements CacheHandler {
     protected abstract boolean shouldHandle(CacheContext context);
 
     /**
-     * 执行实际的处理逻辑
+     * 执行实际的处理逻辑，需要继续责任链时由实现类调用 {@link #invokeNext(CacheContext)}
      *
      * @param context 缓存上下文
      * @return 处理结果
      */
     protected abstract CacheResult doHandle(CacheContext context);
 
+    /**
+     * 非阻塞的处理逻辑，需要继续责任链时由实现类调用 {@link #invokeNextAsync(CacheContext)}
+     *
+     * <p>默认在调用线程上同步执行 {@link #doHandle(CacheContext)}，只适用于不调用后续处理器的实现；
+     * 会继续责任链的处理器必须覆盖此方法。
+     *
+     * @param context 缓存上下文
+     * @return 处理结果
+     */
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        return CompletableFuture.completedFuture(doHandle(context));
+    }
+
     @Override
     public CacheResult handle(CacheContext context) {
         // 如果上下文标记为跳过剩余处理器，直接返回
@@ -45,18 +61,25 @@ abstract class AbstractCacheHandler implements CacheHandler {
             return CacheResult.success();
         }
 
-        // 判断是否需要处理
+        // 判断是否需要处理；处理器自行决定是否调用 invokeNext，避免后续处理器被重复执行
         if (shouldHandle(context)) {
-            CacheResult result = doHandle(context);
-            // 如果处理失败或明确返回结果，不再继续责任链
-            if (!result.isSuccess()
-                    || result.getResultBytes() != null
-                    || result.isRejectedByBloomFilter()) {
-                return result;
-            }
+            return doHandle(context);
         }
 
         // 继续责任链
         return invokeNext(context);
     }
+
+    @Override
+    public CompletionStage<CacheResult> handleAsync(CacheContext context) {
+        if (context.isSkipRemaining()) {
+            return CompletableFuture.completedFuture(CacheResult.success());
+        }
+
+        if (shouldHandle(context)) {
+            return doHandleAsync(context);
+        }
+
+        return invokeNextAsync(context);
+    }
 }
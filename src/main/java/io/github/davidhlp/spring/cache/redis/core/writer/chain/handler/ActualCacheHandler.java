@@ -1,26 +1,48 @@
 package io.github.davidhlp.spring.cache.redis.core.writer.chain.handler;
 
 import io.github.davidhlp.spring.cache.redis.core.writer.CachedValue;
+import io.github.davidhlp.spring.cache.redis.core.writer.CachedValueCodec;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheOperation;
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheResult;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.access.AccessTrackingSupport;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.lock.SyncSupport;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.nullvalue.NullValuePolicy;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.ttl.TtlPolicy;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoader;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshMode;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshSupport;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.script.AtomicPutIfAbsentSupport;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.script.HitPathResult;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.script.HitPathScriptSupport;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.script.RefreshLeaseSupport;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.script.VersionedWriteSupport;
+import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -36,12 +58,17 @@ public class ActualCacheHandler extends AbstractCacheHandler {
     private static final int CLEAN_DELETE_BATCH_SIZE = 256;
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ValueOperations<String, Object> valueOperations;
     private final CacheStatisticsCollector statistics;
     private final SyncSupport syncSupport;
     private final TtlPolicy ttlPolicy;
     private final NullValuePolicy nullValuePolicy;
     private final PreRefreshSupport preRefreshSupport;
+    private final AccessTrackingSupport accessTrackingSupport;
+    private final CachedValueCodec cachedValueCodec;
+    private final HitPathScriptSupport hitPathScriptSupport;
+    private final AtomicPutIfAbsentSupport atomicPutIfAbsentSupport;
+    private final RefreshLeaseSupport refreshLeaseSupport;
+    private final VersionedWriteSupport versionedWriteSupport;
 
     /**
      * 判断是否应该处理给定的缓存上下文
@@ -68,6 +95,158 @@ public class ActualCacheHandler extends AbstractCacheHandler {
         return dispatchOperation(context);
     }
 
+    /**
+     * 非阻塞处理：GET 与无需加锁的 PUT 通过响应式连接执行，其余操作在调用线程上同步执行
+     *
+     * <p>异步 GET 不使用同步锁，未命中时直接返回 miss，并发加载由 {@code RedisProCache} 合并。
+     *
+     * @param context 缓存上下文
+     * @return 缓存操作结果
+     */
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        Assert.notNull(context, "CacheContext must not be null");
+        Assert.notNull(context.getOperation(), "Cache operation must not be null");
+
+        ReactiveRedisConnectionFactory reactiveFactory = reactiveConnectionFactory();
+        if (reactiveFactory == null || context.isBatch()) {
+            return CompletableFuture.completedFuture(dispatchOperation(context));
+        }
+        return switch (context.getOperation()) {
+            case GET -> handleGetAsync(reactiveFactory, context);
+            case PUT ->
+                    requiresLock(context)
+                            ? CompletableFuture.completedFuture(handlePut(context))
+                            : handlePutAsync(reactiveFactory, context);
+            default -> CompletableFuture.completedFuture(dispatchOperation(context));
+        };
+    }
+
+    /**
+     * 获取响应式连接工厂
+     *
+     * @return 响应式连接工厂，底层连接不支持时返回 null
+     */
+    @Nullable
+    private ReactiveRedisConnectionFactory reactiveConnectionFactory() {
+        return redisTemplate.getConnectionFactory() instanceof ReactiveRedisConnectionFactory factory
+                ? factory
+                : null;
+    }
+
+    /**
+     * 异步处理GET操作
+     *
+     * @param factory 响应式连接工厂
+     * @param context 缓存上下文
+     * @return 缓存操作结果
+     */
+    private CompletionStage<CacheResult> handleGetAsync(
+            ReactiveRedisConnectionFactory factory, CacheContext context) {
+        statistics.incGets(context.getCacheName());
+        ByteBuffer rawKey = ByteBuffer.wrap(context.getRedisKey().getBytes(StandardCharsets.UTF_8));
+
+        return Mono.usingWhen(
+                        Mono.fromSupplier(factory::getReactiveConnection),
+                        connection -> connection.stringCommands().get(rawKey),
+                        ReactiveRedisConnection::closeLater)
+                .map(ByteUtils::getBytes)
+                .toFuture()
+                .<CacheResult>thenCompose(
+                        raw -> {
+                            CachedValue cachedValue = cachedValueCodec.decode(raw);
+                            if (!isCacheHit(cachedValue)) {
+                                log.debug(
+                                        "Cache miss on async retrieval: cacheName={}, key={}",
+                                        context.getCacheName(),
+                                        context.getRedisKey());
+                                statistics.incMisses(context.getCacheName());
+                                return CompletableFuture.completedFuture(CacheResult.miss());
+                            }
+                            if (!shouldPreRefresh(context, cachedValue)) {
+                                return CompletableFuture.completedFuture(
+                                        processCacheHit(
+                                                context,
+                                                cachedValue,
+                                                cachedValue.getRemainingTtl(),
+                                                false,
+                                                true,
+                                                true));
+                            }
+                            // 运行在 Redis I/O 线程上，以非阻塞脚本获取刷新租约后再处理命中
+                            return claimRefreshAsync(context, cachedValue)
+                                    .thenApply(
+                                            granted ->
+                                                    processCacheHit(
+                                                            context,
+                                                            cachedValue,
+                                                            cachedValue.getRemainingTtl(),
+                                                            granted,
+                                                            true,
+                                                            true));
+                        })
+                .exceptionally(
+                        ex -> {
+                            log.error(
+                                    "Failed to get value from cache asynchronously: {}",
+                                    context.getCacheName(),
+                                    ex);
+                            statistics.incMisses(context.getCacheName());
+                            return CacheResult.failure(unwrap(ex));
+                        });
+    }
+
+    /**
+     * 异步处理PUT操作
+     *
+     * @param factory 响应式连接工厂
+     * @param context 缓存上下文
+     * @return 缓存操作结果
+     */
+    private CompletionStage<CacheResult> handlePutAsync(
+            ReactiveRedisConnectionFactory factory, CacheContext context) {
+        preRefreshSupport.cancelAsyncRefresh(context.getRedisKey());
+
+        long ttl = context.isShouldApplyTtl() ? context.getFinalTtl() : -1;
+        CachedValue cachedValue = createCachedValue(context, ttl);
+        ByteBuffer rawKey = ByteBuffer.wrap(context.getRedisKey().getBytes(StandardCharsets.UTF_8));
+        ByteBuffer rawValue = ByteBuffer.wrap(cachedValueCodec.encode(cachedValue));
+        Expiration expiration = toExpiration(cachedValue);
+
+        return Mono.usingWhen(
+                        Mono.fromSupplier(factory::getReactiveConnection),
+                        connection ->
+                                connection
+                                        .stringCommands()
+                                        .set(rawKey, rawValue, expiration, SetOption.upsert()),
+                        ReactiveRedisConnection::closeLater)
+                .toFuture()
+                .thenApply(
+                        stored -> {
+                            log.debug(
+                                    "Successfully stored cache data asynchronously: cacheName={}, key={}, ttl={}s, isNull={}",
+                                    context.getCacheName(),
+                                    context.getRedisKey(),
+                                    ttl,
+                                    context.isNullValue());
+                            statistics.incPuts(context.getCacheName());
+                            return CacheResult.success();
+                        })
+                .exceptionally(
+                        ex -> {
+                            log.error(
+                                    "Failed to put value to cache asynchronously: {}",
+                                    context.getCacheName(),
+                                    ex);
+                            return CacheResult.failure(unwrap(ex));
+                        });
+    }
+
+    private static Exception unwrap(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
+    }
+
     /**
      * 判断给定的缓存上下文是否需要加锁执行
      *
@@ -141,10 +320,21 @@ public class ActualCacheHandler extends AbstractCacheHandler {
         try {
             statistics.incGets(context.getCacheName());
 
-            CachedValue cachedValue = (CachedValue) valueOperations.get(context.getRedisKey());
+            if (context.isBatch()) {
+                return handleBatchGet(context);
+            }
+
+            if (hitPathScriptSupport.isEnabled()) {
+                CacheResult scriptedHit = tryScriptedHit(context);
+                if (scriptedHit != null) {
+                    return scriptedHit;
+                }
+            } else {
+                CachedValue cachedValue = readValue(context.getRedisKey());
 
-            if (isCacheHit(cachedValue)) {
-                return processCacheHit(context, cachedValue);
+                if (isCacheHit(cachedValue)) {
+                    return processCacheHit(context, cachedValue);
+                }
             }
 
             log.debug(
@@ -160,8 +350,7 @@ public class ActualCacheHandler extends AbstractCacheHandler {
             return executeWithLock(
                     context,
                     () -> {
-                        CachedValue lockedValue =
-                                (CachedValue) valueOperations.get(context.getRedisKey());
+                        CachedValue lockedValue = readValue(context.getRedisKey());
 
                         if (isCacheHit(lockedValue)) {
                             return processCacheHit(context, lockedValue);
@@ -181,6 +370,73 @@ public class ActualCacheHandler extends AbstractCacheHandler {
         }
     }
 
+    /**
+     * 批量读取时使用写入器预先 MGET 的结果，不再单独访问 Redis
+     *
+     * @param context 缓存上下文
+     * @return 缓存操作结果
+     */
+    private CacheResult handleBatchGet(CacheContext context) {
+        CachedValue cachedValue =
+                cachedValueCodec.decode(context.getBatch().getPrefetched(context.getRedisKey()));
+        if (isCacheHit(cachedValue)) {
+            return processCacheHit(context, cachedValue);
+        }
+        statistics.incMisses(context.getCacheName());
+        return CacheResult.miss();
+    }
+
+    /**
+     * 通过服务端脚本在一次往返内完成命中判断、剩余 TTL 读取、预刷新判定与访问统计
+     *
+     * @param context 缓存上下文
+     * @return 命中时返回缓存操作结果，未命中返回null
+     */
+    @Nullable
+    private CacheResult tryScriptedHit(CacheContext context) {
+        RedisCacheableOperation operation = context.getCacheOperation();
+        boolean probabilistic = isProbabilistic(operation);
+        double threshold =
+                operation != null && operation.isEnablePreRefresh() && !probabilistic
+                        ? operation.getPreRefreshThreshold()
+                        : 0;
+        double sampleRate = operation != null ? operation.getAccessSampleRate() : 1.0;
+
+        HitPathResult hitPath =
+                hitPathScriptSupport.execute(context.getRedisKey(), threshold, sampleRate);
+        if (hitPath == null) {
+            return null;
+        }
+        CachedValue cachedValue = cachedValueCodec.decode(hitPath.raw());
+        if (cachedValue == null) {
+            return null;
+        }
+        context.setVisitTimes(Math.max(0L, hitPath.visits()));
+
+        // 键仍存在于服务端即视为有效，不再以本地时钟判断过期；概率模式以服务端剩余时间在本地判定
+        boolean needsRefresh;
+        if (probabilistic) {
+            needsRefresh = shouldPreRefresh(context, cachedValue, hitPath.pttlMillis());
+        } else {
+            needsRefresh =
+                    hitPath.refreshDecided()
+                            ? hitPath.needsRefresh()
+                            : shouldPreRefresh(context, cachedValue);
+        }
+        // 服务端已在同一次往返内尝试获取刷新租约
+        boolean leaseResolved = needsRefresh && hitPath.leaseDecided();
+        if (leaseResolved) {
+            needsRefresh = hitPath.leaseAcquired();
+        }
+        return processCacheHit(
+                context,
+                cachedValue,
+                hitPath.remainingTtlSeconds(),
+                needsRefresh,
+                leaseResolved,
+                !hitPath.accessTracked());
+    }
+
     /**
      * 判断缓存值是否为有效命中
      *
@@ -199,44 +455,63 @@ public class ActualCacheHandler extends AbstractCacheHandler {
      * @return 缓存操作结果
      */
     private CacheResult processCacheHit(CacheContext context, CachedValue cachedValue) {
-        if (shouldPreRefresh(context, cachedValue)) {
+        return processCacheHit(
+                context,
+                cachedValue,
+                cachedValue.getRemainingTtl(),
+                shouldPreRefresh(context, cachedValue),
+                false,
+                true);
+    }
+
+    /**
+     * 处理缓存命中情况，剩余 TTL 与预刷新判定由调用方给出
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 缓存值
+     * @param remainingTtl 剩余 TTL（秒），-1 表示永久
+     * @param needsRefresh 是否需要预刷新
+     * @param leaseResolved 刷新租约是否已由调用方获取（脚本路径在同一次往返内获取，异步路径以非阻塞脚本获取）
+     * @param trackAccess 是否在本地记录访问统计（脚本路径通常已在服务端记录，Redis Cluster 下仍需本地记录）
+     * @return 缓存操作结果
+     */
+    private CacheResult processCacheHit(
+            CacheContext context,
+            CachedValue cachedValue,
+            long remainingTtl,
+            boolean needsRefresh,
+            boolean leaseResolved,
+            boolean trackAccess) {
+        if (needsRefresh && !leaseResolved) {
+            needsRefresh = claimRefresh(context, cachedValue);
+        }
+        if (needsRefresh) {
             CacheResult preRefreshResult = handlePreRefresh(context, cachedValue);
             if (preRefreshResult != null) {
                 return preRefreshResult;
             }
+        } else {
+            trackRefreshAhead(context, cachedValue, remainingTtl);
         }
 
         log.debug(
                 "Cache hit: cacheName={}, key={}, remainingTtl={}s",
                 context.getCacheName(),
                 context.getRedisKey(),
-                cachedValue.getRemainingTtl());
+                remainingTtl);
 
         statistics.incHits(context.getCacheName());
 
-        cachedValue.updateAccess();
-        long remainingTtl = cachedValue.getRemainingTtl();
-        Boolean touched;
-        if (remainingTtl >= 0) {
-            touched =
-                    valueOperations.setIfPresent(
-                            context.getRedisKey(), cachedValue, Duration.ofSeconds(remainingTtl));
-        } else {
-            touched = valueOperations.setIfPresent(context.getRedisKey(), cachedValue);
+        context.setRemainingTtl(remainingTtl);
+        if (trackAccess) {
+            recordAccess(context, remainingTtl);
         }
 
-        if (!Boolean.TRUE.equals(touched)) {
-            log.debug(
-                    "Skipped cache touch because key was removed concurrently: cacheName={}, key={}",
-                    context.getCacheName(),
-                    context.getRedisKey());
-        }
+        byte[] result = toReturnBytes(context, cachedValue);
 
-        byte[] result =
-                nullValuePolicy.toReturnValue(
-                        cachedValue.getValue(), context.getCacheName(), context.getRedisKey());
-
-        if (result != null && !nullValuePolicy.isNullValue(cachedValue.getValue())) {
+        if (result != null
+                && !cachedValue.hasPayload()
+                && !nullValuePolicy.isNullValue(cachedValue.getValue())) {
             log.debug(
                     "Successfully serialized cache data: cacheName={}, key={}, dataSize={} bytes",
                     context.getCacheName(),
@@ -247,6 +522,20 @@ public class ActualCacheHandler extends AbstractCacheHandler {
         return CacheResult.success(result);
     }
 
+    /**
+     * 记录缓存访问统计，由 {@link AccessTrackingSupport} 聚合后异步回写，命中路径不再写回缓存值
+     *
+     * @param context 缓存上下文
+     * @param remainingTtl 剩余 TTL（秒）
+     */
+    private void recordAccess(CacheContext context, long remainingTtl) {
+        double sampleRate =
+                context.getCacheOperation() != null
+                        ? context.getCacheOperation().getAccessSampleRate()
+                        : 1.0;
+        accessTrackingSupport.recordAccess(context.getRedisKey(), remainingTtl, sampleRate);
+    }
+
     /**
      * 判断是否需要进行预刷新
      *
@@ -255,15 +544,79 @@ public class ActualCacheHandler extends AbstractCacheHandler {
      * @return 如果需要预刷新返回true，否则返回false
      */
     private boolean shouldPreRefresh(CacheContext context, CachedValue cachedValue) {
+        return shouldPreRefresh(context, cachedValue, cachedValue.getRemainingMillis());
+    }
+
+    /**
+     * 判断是否需要进行预刷新，概率模式下且缓存值记录了重新计算耗时时按 XFetch 判定，否则按阈值判定
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 缓存值
+     * @param remainingMillis 剩余存活时间（毫秒），负数表示永久
+     * @return 如果需要预刷新返回true，否则返回false
+     */
+    private boolean shouldPreRefresh(
+            CacheContext context, CachedValue cachedValue, long remainingMillis) {
         Assert.notNull(context, "CacheContext must not be null");
         Assert.notNull(cachedValue, "CachedValue must not be null");
 
-        return context.getCacheOperation() != null
-                && context.getCacheOperation().isEnablePreRefresh()
-                && ttlPolicy.shouldPreRefresh(
-                        cachedValue.getCreatedTime(),
-                        cachedValue.getTtl(),
-                        context.getCacheOperation().getPreRefreshThreshold());
+        RedisCacheableOperation operation = context.getCacheOperation();
+        if (operation == null || !operation.isEnablePreRefresh()) {
+            return false;
+        }
+        if (isProbabilistic(operation) && cachedValue.getComputeMillis() > 0) {
+            return ttlPolicy.shouldProbabilisticRefresh(
+                    remainingMillis, cachedValue.getComputeMillis(), operation.getPreRefreshBeta());
+        }
+        return ttlPolicy.shouldPreRefresh(
+                cachedValue.getCreatedTime(),
+                cachedValue.getTtl(),
+                operation.getPreRefreshThreshold());
+    }
+
+    /**
+     * 获取跨节点刷新租约，未获得时本节点不刷新、不提交本地任务，继续返回当前值
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 待刷新的缓存值
+     * @return 获得刷新权返回 true
+     */
+    private boolean claimRefresh(CacheContext context, CachedValue cachedValue) {
+        try {
+            return refreshLeaseSupport.tryAcquire(context.getRedisKey(), cachedValue.getVersion());
+        } catch (Exception e) {
+            log.warn(
+                    "Failed to acquire refresh lease, refreshing locally: cacheName={}, key={}",
+                    context.getCacheName(),
+                    context.getRedisKey(),
+                    e);
+            return true;
+        }
+    }
+
+    /**
+     * 以非阻塞方式获取跨节点刷新租约，获取失败时与 {@link #claimRefresh} 一致按获得处理
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 待刷新的缓存值
+     * @return 获得刷新权时完成为 true
+     */
+    private CompletionStage<Boolean> claimRefreshAsync(CacheContext context, CachedValue cachedValue) {
+        return refreshLeaseSupport
+                .tryAcquireAsync(context.getRedisKey(), cachedValue.getVersion())
+                .exceptionally(
+                        e -> {
+                            log.warn(
+                                    "Failed to acquire refresh lease, refreshing locally: cacheName={}, key={}",
+                                    context.getCacheName(),
+                                    context.getRedisKey(),
+                                    e);
+                            return true;
+                        });
+    }
+
+    private boolean isProbabilistic(@Nullable RedisCacheableOperation operation) {
+        return operation != null && operation.getPreRefreshMode() == PreRefreshMode.PROBABILISTIC;
     }
 
     /**
@@ -301,6 +654,14 @@ public class ActualCacheHandler extends AbstractCacheHandler {
                     context.getRedisKey());
             statistics.incMisses(context.getCacheName());
             return CacheResult.miss();
+        } else if (mode == PreRefreshMode.PROBABILISTIC) {
+            log.info(
+                    "Probabilistic early refresh selected this caller, returning null to trigger cache miss: cacheName={}, key={}, computeMillis={}",
+                    context.getCacheName(),
+                    context.getRedisKey(),
+                    cachedValue.getComputeMillis());
+            statistics.incMisses(context.getCacheName());
+            return CacheResult.miss();
         } else if (mode == PreRefreshMode.ASYNC) {
             log.info(
                     "Asynchronous pre-refresh triggered, returning old value and refreshing cache in background: cacheName={}, key={}",
@@ -317,75 +678,239 @@ public class ActualCacheHandler extends AbstractCacheHandler {
     /**
      * 安排异步预刷新任务
      *
+     * <p>读取时捕获到 {@link PreRefreshLoader} 时，后台重新调用方法并以新版本覆盖旧值，期间调用方继续读取旧值；
+     * 未绑定加载器（如直接使用写入器）时退化为删除旧值，由下一次读取回源。
+     *
      * @param context 缓存上下文
      * @param cachedValue 缓存值
      */
     private void scheduleAsyncPreRefresh(CacheContext context, CachedValue cachedValue) {
-        String redisKey = context.getRedisKey();
+        preRefreshSupport.submitAsyncRefresh(
+                context.getCacheName(),
+                context.getRedisKey(),
+                refreshHotness(context),
+                createRefreshTask(
+                        context.getCacheName(),
+                        context.getRedisKey(),
+                        context.getLockContext(),
+                        cachedValue.getVersion(),
+                        cachedValue.getCreatedTime(),
+                        cachedValue.getTtl(),
+                        context.getPreRefreshLoader(),
+                        false));
+    }
+
+    /**
+     * 预刷新任务的热度：优先使用脚本命中路径返回的服务端访问次数，否则使用本地尚未回写的访问次数
+     *
+     * @param context 缓存上下文
+     * @return 热度，至少为 1
+     */
+    private long refreshHotness(CacheContext context) {
+        long visits =
+                context.getVisitTimes() > 0
+                        ? context.getVisitTimes()
+                        : accessTrackingSupport.pendingVisits(context.getRedisKey());
+        return Math.max(1L, visits);
+    }
+
+    /**
+     * 登记按到期时间的主动预刷新，仅适用于绑定了加载器的异步预刷新缓存
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 缓存值
+     * @param remainingTtl 剩余 TTL（秒）
+     */
+    private void trackRefreshAhead(CacheContext context, CachedValue cachedValue, long remainingTtl) {
+        RedisCacheableOperation operation = context.getCacheOperation();
+        if (remainingTtl <= 0
+                || !preRefreshSupport.isRefreshAheadEnabled()
+                || operation == null
+                || !operation.isEnablePreRefresh()
+                || operation.getPreRefreshMode() != PreRefreshMode.ASYNC) {
+            return;
+        }
+        PreRefreshLoader loader = context.getPreRefreshLoader();
+        if (loader == null) {
+            return;
+        }
+        // 登记期间只保留版本信息，不持有缓存值负载
         String cacheName = context.getCacheName();
+        String redisKey = context.getRedisKey();
         LockContext lockContext = context.getLockContext();
-        long originalCreated = cachedValue.getCreatedTime();
-        long originalVersion = cachedValue.getVersion();
-
-        preRefreshSupport.submitAsyncRefresh(
+        long version = cachedValue.getVersion();
+        long createdTime = cachedValue.getCreatedTime();
+        long ttl = cachedValue.getTtl();
+        preRefreshSupport.trackRefreshAhead(
+                cacheName,
                 redisKey,
-                () -> {
-                    Runnable deleteTask =
-                            () -> {
-                                try {
-                                    CachedValue liveValue =
-                                            (CachedValue) valueOperations.get(redisKey);
-                                    if (liveValue == null) {
-                                        log.debug(
-                                                "Async pre-refresh found key already missing: cacheName={}, key={}",
-                                                cacheName,
-                                                redisKey);
-                                        return;
-                                    }
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(remainingTtl),
+                () ->
+                        createRefreshTask(
+                                cacheName,
+                                redisKey,
+                                lockContext,
+                                version,
+                                createdTime,
+                                ttl,
+                                loader,
+                                true));
+    }
 
-                                    boolean matchesCreated =
-                                            liveValue.getCreatedTime() == originalCreated;
-                                    boolean matchesVersion =
-                                            liveValue.getVersion() == originalVersion;
-
-                                    if (matchesCreated && matchesVersion) {
-                                        Boolean deleted = redisTemplate.delete(redisKey);
-                                        log.debug(
-                                                "Async pre-refresh evicted stale entry: cacheName={}, key={}, deleted={}",
-                                                cacheName,
-                                                redisKey,
-                                                deleted);
-                                    } else {
-                                        log.debug(
-                                                "Async pre-refresh skipped delete because cache value changed: cacheName={}, key={}, originalVersion={}, liveVersion={}, originalCreated={}, liveCreated={}",
-                                                cacheName,
-                                                redisKey,
-                                                originalVersion,
-                                                liveValue.getVersion(),
-                                                originalCreated,
-                                                liveValue.getCreatedTime());
-                                    }
-                                } catch (Exception ex) {
-                                    log.error(
-                                            "Async pre-refresh failed for cache: cacheName={}, key={}",
-                                            cacheName,
-                                            redisKey,
-                                            ex);
-                                }
-                            };
-
-                    if (lockContext != null && lockContext.requiresLock()) {
-                        syncSupport.executeSync(
-                                lockContext.lockKey(),
-                                () -> {
-                                    deleteTask.run();
-                                    return Boolean.TRUE;
-                                },
-                                lockContext.timeoutSeconds());
-                    } else {
-                        deleteTask.run();
+    /**
+     * 构建预刷新任务：确认缓存值未被替换后重新加载（无加载器时删除），需要时在同步锁内执行
+     *
+     * @param cacheName 缓存名称
+     * @param redisKey Redis 键
+     * @param lockContext 锁上下文
+     * @param version 触发预刷新时读到的缓存值版本
+     * @param createdTime 触发预刷新时读到的缓存值创建时间
+     * @param ttl 触发预刷新时读到的缓存值 TTL（秒），重新加载后沿用
+     * @param loader 加载器，为 null 时删除旧值
+     * @param keepTracking 重新加载成功后是否按新值继续登记主动预刷新
+     * @return 预刷新任务
+     */
+    private Runnable createRefreshTask(
+            String cacheName,
+            String redisKey,
+            @Nullable LockContext lockContext,
+            long version,
+            long createdTime,
+            long ttl,
+            @Nullable PreRefreshLoader loader,
+            boolean keepTracking) {
+        Runnable refreshTask =
+                () -> {
+                    try {
+                        if (!isUnchanged(cacheName, redisKey, version, createdTime)) {
+                            return;
+                        }
+                        if (keepTracking && !refreshLeaseSupport.tryAcquire(redisKey, version)) {
+                            return;
+                        }
+                        if (loader == null) {
+                            Boolean deleted = redisTemplate.delete(redisKey);
+                            log.debug(
+                                    "Async pre-refresh evicted stale entry: cacheName={}, key={}, deleted={}",
+                                    cacheName,
+                                    redisKey,
+                                    deleted);
+                            return;
+                        }
+                        CachedValue refreshed = reloadValue(cacheName, redisKey, version, ttl, loader);
+                        if (refreshed != null && keepTracking && refreshed.getTtl() > 0) {
+                            long refreshedVersion = refreshed.getVersion();
+                            long refreshedCreatedTime = refreshed.getCreatedTime();
+                            preRefreshSupport.trackRefreshAhead(
+                                    cacheName,
+                                    redisKey,
+                                    refreshedCreatedTime + TimeUnit.SECONDS.toMillis(ttl),
+                                    () ->
+                                            createRefreshTask(
+                                                    cacheName,
+                                                    redisKey,
+                                                    lockContext,
+                                                    refreshedVersion,
+                                                    refreshedCreatedTime,
+                                                    ttl,
+                                                    loader,
+                                                    true));
+                        }
+                    } catch (Exception ex) {
+                        log.error(
+                                "Async pre-refresh failed for cache: cacheName={}, key={}",
+                                cacheName,
+                                redisKey,
+                                ex);
                     }
-                });
+                };
+
+        if (lockContext == null || !lockContext.requiresLock()) {
+            return refreshTask;
+        }
+        return () ->
+                syncSupport.executeSync(
+                        lockContext.lockKey(),
+                        () -> {
+                            refreshTask.run();
+                            return Boolean.TRUE;
+                        },
+                        lockContext.timeoutSeconds());
+    }
+
+    /**
+     * 检查 Redis 中的值是否仍是触发预刷新时读到的版本
+     *
+     * @param cacheName 缓存名称
+     * @param redisKey Redis 键
+     * @param version 触发预刷新时读到的缓存值版本
+     * @param createdTime 触发预刷新时读到的缓存值创建时间
+     * @return 值未被删除或替换时返回 true
+     */
+    private boolean isUnchanged(String cacheName, String redisKey, long version, long createdTime) {
+        CachedValue liveValue = readValue(redisKey);
+        if (liveValue == null) {
+            log.debug(
+                    "Async pre-refresh found key already missing: cacheName={}, key={}",
+                    cacheName,
+                    redisKey);
+            return false;
+        }
+        if (liveValue.getCreatedTime() != createdTime || liveValue.getVersion() != version) {
+            log.debug(
+                    "Async pre-refresh skipped because cache value changed: cacheName={}, key={}, originalVersion={}, liveVersion={}, originalCreated={}, liveCreated={}",
+                    cacheName,
+                    redisKey,
+                    version,
+                    liveValue.getVersion(),
+                    createdTime,
+                    liveValue.getCreatedTime());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 重新加载并以新版本写入，沿用原值的 TTL；仅当 Redis 中仍是原版本时才写入，加载期间被删除或替换的值不会被覆盖
+     *
+     * @param cacheName 缓存名称
+     * @param redisKey Redis 键
+     * @param version 被替换的缓存值版本
+     * @param ttl 被替换的缓存值 TTL（秒）
+     * @param loader 加载器
+     * @return 写入的新缓存值，值已变化而放弃写入时返回 null
+     * @throws Exception 加载失败时抛出，旧值保留至自然过期
+     */
+    @Nullable
+    private CachedValue reloadValue(
+            String cacheName, String redisKey, long version, long ttl, PreRefreshLoader loader)
+            throws Exception {
+        long startNanos = System.nanoTime();
+        byte[] payload = loader.reload();
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        CachedValue refreshed = CachedValue.ofPayload(payload, ttl, computeMillis);
+        boolean replaced =
+                versionedWriteSupport.replaceIfVersion(
+                        redisKey,
+                        version,
+                        cachedValueCodec.encode(refreshed),
+                        refreshed.getTtl());
+        if (!replaced) {
+            log.debug(
+                    "Async pre-refresh discarded because cache value changed during reload: cacheName={}, key={}, originalVersion={}",
+                    cacheName,
+                    redisKey,
+                    version);
+            return null;
+        }
+        statistics.incPuts(cacheName);
+        log.debug(
+                "Async pre-refresh reloaded entry: cacheName={}, key={}, ttl={}s, version={}",
+                cacheName,
+                redisKey,
+                refreshed.getTtl(),
+                refreshed.getVersion());
+        return refreshed;
     }
 
     /**
@@ -426,16 +951,14 @@ public class ActualCacheHandler extends AbstractCacheHandler {
     private CacheResult doPut(CacheContext context) {
         preRefreshSupport.cancelAsyncRefresh(context.getRedisKey());
 
-        Object storeValue =
-                context.getStoreValue() != null
-                        ? context.getStoreValue()
-                        : context.getDeserializedValue();
+        if (context.isBatch()) {
+            return enqueueBatchPut(context);
+        }
 
         CachedValue cachedValue;
         if (context.isShouldApplyTtl()) {
-            cachedValue = CachedValue.of(storeValue, context.getFinalTtl());
-            valueOperations.set(
-                    context.getRedisKey(), cachedValue, Duration.ofSeconds(context.getFinalTtl()));
+            cachedValue = createCachedValue(context, context.getFinalTtl());
+            writeValue(context.getRedisKey(), cachedValue, SetOption.upsert());
 
             log.debug(
                     "Successfully stored cache data with TTL: cacheName={}, key={}, ttl={}s, fromContext={}, isNull={}",
@@ -443,16 +966,16 @@ public class ActualCacheHandler extends AbstractCacheHandler {
                     context.getRedisKey(),
                     context.getFinalTtl(),
                     context.isTtlFromContext(),
-                    context.getDeserializedValue() == null);
+                    context.isNullValue());
         } else {
-            cachedValue = CachedValue.of(storeValue, -1);
-            valueOperations.set(context.getRedisKey(), cachedValue);
+            cachedValue = createCachedValue(context, -1);
+            writeValue(context.getRedisKey(), cachedValue, SetOption.upsert());
 
             log.debug(
                     "Successfully stored permanent cache data: cacheName={}, key={}, isNull={}",
                     context.getCacheName(),
                     context.getRedisKey(),
-                    context.getDeserializedValue() == null);
+                    context.isNullValue());
         }
 
         statistics.incPuts(context.getCacheName());
@@ -460,135 +983,185 @@ public class ActualCacheHandler extends AbstractCacheHandler {
     }
 
     /**
-     * 处理PUT_IF_ABSENT操作，仅在键不存在时存储数据
+     * 批量写入时只登记 SET 命令，由写入器统一以 pipeline 提交
      *
      * @param context 缓存上下文
      * @return 缓存操作结果
      */
-    private CacheResult handlePutIfAbsent(CacheContext context) {
-        Assert.notNull(context, "CacheContext must not be null");
-        Assert.hasText(context.getCacheName(), "Cache name must not be empty");
-        Assert.hasText(context.getRedisKey(), "Redis key must not be empty");
+    private CacheResult enqueueBatchPut(CacheContext context) {
+        long ttl = context.isShouldApplyTtl() ? context.getFinalTtl() : -1;
+        CachedValue cachedValue = createCachedValue(context, ttl);
+        context.getBatch()
+                .addWrite(
+                        context.getRedisKey().getBytes(StandardCharsets.UTF_8),
+                        cachedValueCodec.encode(cachedValue),
+                        toExpiration(cachedValue));
 
         log.debug(
-                "Starting conditional cache storage: cacheName={}, key={}, ttl={}, dataSize={} bytes",
+                "Queued cache data for batch storage: cacheName={}, key={}, ttl={}s, isNull={}",
                 context.getCacheName(),
                 context.getRedisKey(),
-                context.getTtl(),
-                context.getValueBytes() != null ? context.getValueBytes().length : 0);
+                ttl,
+                context.isNullValue());
 
-        try {
-            CachedValue existingValue = (CachedValue) valueOperations.get(context.getRedisKey());
-            CacheResult existingResult = handleExistingValue(context, existingValue);
-            if (existingResult != null) {
-                return existingResult;
-            }
+        statistics.incPuts(context.getCacheName());
+        return CacheResult.success();
+    }
 
-            if (requiresLock(context)) {
-                return executeWithLock(context, () -> performConditionalStore(context));
-            }
+    /**
+     * 读取并解码缓存值
+     *
+     * @param redisKey Redis 键
+     * @return 缓存值，不存在时返回 null
+     */
+    @Nullable
+    private CachedValue readValue(String redisKey) {
+        byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+        byte[] raw =
+                redisTemplate.execute(
+                        (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        return cachedValueCodec.decode(raw);
+    }
 
-            return performConditionalStore(context);
+    /**
+     * 编码并写入缓存值，TTL 取自缓存值本身（小于等于 0 表示永久）
+     *
+     * @param redisKey Redis 键
+     * @param cachedValue 缓存值
+     * @param option 写入条件
+     * @return 是否写入成功
+     */
+    private Boolean writeValue(String redisKey, CachedValue cachedValue, SetOption option) {
+        byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+        byte[] raw = cachedValueCodec.encode(cachedValue);
+        Expiration expiration = toExpiration(cachedValue);
+        return redisTemplate.execute(
+                (RedisCallback<Boolean>)
+                        connection ->
+                                connection.stringCommands().set(rawKey, raw, expiration, option));
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to putIfAbsent value to cache: {}", context.getCacheName(), e);
-            return CacheResult.failure(e);
-        }
+    /**
+     * 根据缓存值的 TTL 计算过期设置（小于等于 0 表示永久）
+     *
+     * @param cachedValue 缓存值
+     * @return 过期设置
+     */
+    private Expiration toExpiration(CachedValue cachedValue) {
+        return cachedValue.getTtl() > 0
+                ? Expiration.seconds(cachedValue.getTtl())
+                : Expiration.persistent();
     }
 
     /**
-     * 处理已存在的缓存值
+     * 构建待写入的缓存值，直接封装缓存序列化器产生的字节
      *
      * @param context 缓存上下文
-     * @param existingValue 已存在的缓存值
-     * @return 如果值存在且未过期则返回成功结果，否则返回null
+     * @param ttl TTL（秒），-1 表示永久
+     * @return 缓存值
      */
-    private CacheResult handleExistingValue(CacheContext context, CachedValue existingValue) {
-        if (!isCacheHit(existingValue)) {
-            return null;
+    private CachedValue createCachedValue(CacheContext context, long ttl) {
+        return CachedValue.ofPayload(context.getValueBytes(), ttl, context.getComputeMillis());
+    }
+
+    /**
+     * 将缓存值转换为返回给缓存的字节：透传的负载原样返回，旧格式的对象值重新序列化
+     *
+     * @param context 缓存上下文
+     * @param cachedValue 缓存值
+     * @return 返回的字节数组
+     */
+    private byte[] toReturnBytes(CacheContext context, CachedValue cachedValue) {
+        if (cachedValue.hasPayload()) {
+            return cachedValue.getPayload();
         }
+        return nullValuePolicy.toReturnValue(
+                cachedValue.getValue(), context.getCacheName(), context.getRedisKey());
+    }
+
+    /**
+     * 处理PUT_IF_ABSENT操作，仅在键不存在时存储数据
+     *
+     * @param context 缓存上下文
+     * @return 缓存操作结果
+     */
+    private CacheResult handlePutIfAbsent(CacheContext context) {
+        Assert.notNull(context, "CacheContext must not be null");
+        Assert.hasText(context.getCacheName(), "Cache name must not be empty");
+        Assert.hasText(context.getRedisKey(), "Redis key must not be empty");
 
         log.debug(
-                "Cache data exists and not expired, returning existing value: cacheName={}, key={}",
+                "Starting conditional cache storage: cacheName={}, key={}, ttl={}, dataSize={} bytes",
                 context.getCacheName(),
-                context.getRedisKey());
+                context.getRedisKey(),
+                context.getTtl(),
+                context.getValueBytes() != null ? context.getValueBytes().length : 0);
 
-        byte[] result =
-                nullValuePolicy.toReturnValue(
-                        existingValue.getValue(), context.getCacheName(), context.getRedisKey());
-        return CacheResult.success(result);
+        try {
+            return doPutIfAbsent(context);
+        } catch (Exception e) {
+            log.error("Failed to putIfAbsent value to cache: {}", context.getCacheName(), e);
+            return CacheResult.failure(e);
+        }
     }
 
     /**
-     * 执行条件存储操作
+     * 以单条原子命令执行条件存储，键已存在时直接返回已有值，无需加锁
      *
      * @param context 缓存上下文
      * @return 缓存操作结果
      */
-    private CacheResult performConditionalStore(CacheContext context) {
-        CachedValue recheckedValue = (CachedValue) valueOperations.get(context.getRedisKey());
-        CacheResult existingResult = handleExistingValue(context, recheckedValue);
-        if (existingResult != null) {
-            return existingResult;
-        }
-
-        Object storeValue =
-                context.getStoreValue() != null
-                        ? context.getStoreValue()
-                        : context.getDeserializedValue();
-
-        CachedValue cachedValue;
-        Boolean success;
-
-        if (context.isShouldApplyTtl()) {
-            cachedValue = CachedValue.of(storeValue, context.getFinalTtl());
-            success =
-                    valueOperations.setIfAbsent(
-                            context.getRedisKey(),
-                            cachedValue,
-                            Duration.ofSeconds(context.getFinalTtl()));
-
-            log.debug(
-                    "Attempting conditional storage with TTL: cacheName={}, key={}, ttl={}s, fromContext={}, isNull={}",
-                    context.getCacheName(),
-                    context.getRedisKey(),
-                    context.getFinalTtl(),
-                    context.isTtlFromContext(),
-                    context.getDeserializedValue() == null);
-        } else {
-            cachedValue = CachedValue.of(storeValue, -1);
-            success = valueOperations.setIfAbsent(context.getRedisKey(), cachedValue);
-
+    private CacheResult doPutIfAbsent(CacheContext context) {
+        long ttl = context.isShouldApplyTtl() ? context.getFinalTtl() : -1;
+        CachedValue cachedValue = createCachedValue(context, ttl);
+        byte[] existing =
+                atomicPutIfAbsentSupport.putIfAbsent(
+                        context.getRedisKey(), cachedValueCodec.encode(cachedValue), ttl);
+
+        if (existing == null) {
+            preRefreshSupport.cancelAsyncRefresh(context.getRedisKey());
             log.debug(
-                    "Attempting conditional storage without TTL: cacheName={}, key={}, isNull={}",
+                    "Conditional storage succeeded: cacheName={}, key={}, ttl={}s, isNull={}",
                     context.getCacheName(),
                     context.getRedisKey(),
-                    context.getDeserializedValue() == null);
-        }
-
-        if (Boolean.TRUE.equals(success)) {
-            log.debug(
-                    "Conditional storage succeeded: cacheName={}, key={}",
-                    context.getCacheName(),
-                    context.getRedisKey());
+                    ttl,
+                    context.isNullValue());
             statistics.incPuts(context.getCacheName());
             return CacheResult.success();
         }
 
         log.debug(
-                "Conditional storage failed, retrieving existing value: cacheName={}, key={}",
+                "Cache data exists, returning existing value: cacheName={}, key={}",
                 context.getCacheName(),
                 context.getRedisKey());
 
-        CachedValue actualValue = (CachedValue) valueOperations.get(context.getRedisKey());
-        if (actualValue != null) {
-            byte[] result =
-                    nullValuePolicy.toReturnValue(
-                            actualValue.getValue(), context.getCacheName(), context.getRedisKey());
-            return CacheResult.success(result);
+        // 是否存在、是否过期均已由脚本原子判定，此处只负责将已有值还原为返回字节
+        CachedValue existingValue = decodeExisting(context, existing);
+        if (existingValue == null) {
+            return CacheResult.success(existing);
         }
+        return CacheResult.success(toReturnBytes(context, existingValue));
+    }
 
-        return CacheResult.success();
+    /**
+     * 解码 putIfAbsent 返回的已有值，无法识别时返回 null，由调用方原样返回已有字节
+     *
+     * @param context 缓存上下文
+     * @param existing 已有值的原始字节
+     * @return 缓存值，无法解码时返回 null
+     */
+    @Nullable
+    private CachedValue decodeExisting(CacheContext context, byte[] existing) {
+        try {
+            return cachedValueCodec.decode(existing);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Existing cache entry is not a cached value, returning raw bytes: cacheName={}, key={}",
+                    context.getCacheName(),
+                    context.getRedisKey(),
+                    e);
+            return null;
+        }
     }
 
     /**
@@ -608,7 +1181,12 @@ public class ActualCacheHandler extends AbstractCacheHandler {
                 context.getRedisKey());
 
         try {
+            preRefreshSupport.cancelAsyncRefresh(context.getRedisKey());
             Boolean deleted = redisTemplate.delete(context.getRedisKey());
+            if (accessTrackingSupport.isEnabled()) {
+                accessTrackingSupport.discard(context.getRedisKey());
+                redisTemplate.delete(accessTrackingSupport.accessKey(context.getRedisKey()));
+            }
             statistics.incDeletes(context.getCacheName());
 
             log.debug(
@@ -732,13 +1310,31 @@ public class ActualCacheHandler extends AbstractCacheHandler {
         if (batch.isEmpty()) {
             return 0L;
         }
+        List<byte[]> accessKeys = new ArrayList<>(accessTrackingSupport.isEnabled() ? batch.size() : 0);
+        for (byte[] key : batch) {
+            String redisKey = new String(key, StandardCharsets.UTF_8);
+            preRefreshSupport.cancelAsyncRefresh(redisKey);
+            if (accessTrackingSupport.isEnabled()) {
+                accessTrackingSupport.discard(redisKey);
+                accessKeys.add(
+                        accessTrackingSupport.accessKey(redisKey).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        long removed;
         if (lockRequired && lockContext != null) {
-            return syncSupport.executeSync(
-                    lockContext.lockKey(),
-                    () -> removeBatch(connection, batch),
-                    lockContext.timeoutSeconds());
+            removed =
+                    syncSupport.executeSync(
+                            lockContext.lockKey(),
+                            () -> removeBatch(connection, batch),
+                            lockContext.timeoutSeconds());
+        } else {
+            removed = removeBatch(connection, batch);
+        }
+        // 访问统计 Hash 随缓存键一并清理，不计入删除数量
+        if (!accessKeys.isEmpty()) {
+            removeBatch(connection, accessKeys);
         }
-        return removeBatch(connection, batch);
+        return removed;
     }
 
     /**
@@ -0,0 +1,114 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.chain.handler;
+
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 批量操作在责任链中共享的状态
+ *
+ * <p>责任链仍按键逐个执行以应用布隆、TTL、空值等策略，但 Redis I/O 由写入器统一完成：读取时使用预先 MGET 的结果，
+ * 写入时只登记待写命令，由写入器以一个 pipeline 提交，提交成功后再执行各处理器登记的后置动作。
+ *
+ * <p>一个批次只在调用线程内使用，非线程安全。
+ */
+public class BatchContext {
+
+    private final List<String> actualKeys;
+    private final Map<String, byte[]> prefetched = new HashMap<>();
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final Map<String, Runnable> afterWrite = new LinkedHashMap<>();
+
+    public BatchContext(List<String> actualKeys) {
+        this.actualKeys = actualKeys;
+    }
+
+    /**
+     * 获取批次内全部实际 key（去除前缀），顺序与请求一致
+     *
+     * @return 实际 key 列表
+     */
+    public List<String> getActualKeys() {
+        return actualKeys;
+    }
+
+    /**
+     * 登记 MGET 的读取结果
+     *
+     * @param redisKey Redis 键
+     * @param raw 原始字节，不存在时为 null
+     */
+    public void prefetch(String redisKey, @Nullable byte[] raw) {
+        prefetched.put(redisKey, raw);
+    }
+
+    /**
+     * 获取预读取的原始字节
+     *
+     * @param redisKey Redis 键
+     * @return 原始字节，不存在时返回 null
+     */
+    @Nullable
+    public byte[] getPrefetched(String redisKey) {
+        return prefetched.get(redisKey);
+    }
+
+    /**
+     * 登记待写入的命令
+     *
+     * @param key 原始键
+     * @param value 原始值
+     * @param expiration 过期设置
+     */
+    public void addWrite(byte[] key, byte[] value, Expiration expiration) {
+        pendingWrites.add(new PendingWrite(key, value, expiration));
+    }
+
+    public List<PendingWrite> getPendingWrites() {
+        return pendingWrites;
+    }
+
+    /**
+     * 获取处理器在本批次内的共享状态，不存在时创建
+     *
+     * @param name 状态名称
+     * @param factory 创建函数
+     * @param <T> 状态类型
+     * @return 状态对象
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T attribute(String name, Supplier<T> factory) {
+        return (T) attributes.computeIfAbsent(name, k -> factory.get());
+    }
+
+    /**
+     * 登记 pipeline 提交成功后执行的动作，同名动作只保留第一个
+     *
+     * @param name 动作名称
+     * @param action 动作
+     */
+    public void afterWrite(String name, Runnable action) {
+        afterWrite.putIfAbsent(name, action);
+    }
+
+    /** 执行全部后置动作 */
+    public void runAfterWrite() {
+        afterWrite.values().forEach(Runnable::run);
+    }
+
+    /**
+     * 待写入的 SET 命令
+     *
+     * @param key 原始键
+     * @param value 原始值
+     * @param expiration 过期设置
+     */
+    public record PendingWrite(byte[] key, byte[] value, Expiration expiration) {}
+}
@@ -7,12 +7,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /** Bloom filter handler preventing cache penetration. */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BloomFilterHandler extends AbstractCacheHandler {
 
+    private static final String BATCH_CANDIDATES = "bloom.candidates:";
+    private static final String BATCH_ADDITIONS = "bloom.additions:";
+
     private final BloomSupport bloomSupport;
     private final CacheStatisticsCollector statistics;
 
@@ -32,31 +42,72 @@ public class BloomFilterHandler extends AbstractCacheHandler {
         };
     }
 
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        if (context.isBatch()) {
+            // 批量操作在后续处理器中同步执行，这里沿用同步的批量布隆判定
+            return CompletableFuture.completedFuture(doHandle(context));
+        }
+        return switch (context.getOperation()) {
+            case GET ->
+                    bloomSupport
+                            .mightContainAsync(context.getCacheName(), context.getActualKey())
+                            .thenCompose(
+                                    mightContain ->
+                                            rejects(context, mightContain)
+                                                    ? CompletableFuture.completedFuture(
+                                                            CacheResult.rejectedByBloomFilter())
+                                                    : invokeNextAsync(context));
+            case PUT, PUT_IF_ABSENT -> {
+                // 与写入并行加入布隆过滤器：布隆过滤器本就允许误判，两次往返都不阻塞调用线程
+                CompletionStage<Void> addition =
+                        bloomSupport.addAsync(context.getCacheName(), context.getActualKey());
+                yield invokeNextAsync(context).thenCombine(addition, (result, ignored) -> result);
+            }
+            case CLEAN -> CompletableFuture.completedFuture(handleClean(context));
+            default -> invokeNextAsync(context);
+        };
+    }
+
     private CacheResult handleGet(CacheContext context) {
-        boolean mightContain =
-                bloomSupport.mightContain(context.getCacheName(), context.getActualKey());
+        if (rejects(context)) {
+            return CacheResult.rejectedByBloomFilter();
+        }
+        return invokeNext(context);
+    }
+
+    /** 判断布隆过滤器是否拒绝该键，拒绝时记录未命中 */
+    private boolean rejects(CacheContext context) {
+        return rejects(
+                context,
+                context.isBatch()
+                        ? batchMightContain(context)
+                        : bloomSupport.mightContain(context.getCacheName(), context.getActualKey()));
+    }
 
+    private boolean rejects(CacheContext context, boolean mightContain) {
         if (!mightContain) {
             log.debug(
                     "Bloom filter rejected (key does not exist): cacheName={}, key={}",
                     context.getCacheName(),
                     context.getRedisKey());
             statistics.incMisses(context.getCacheName());
-            return CacheResult.rejectedByBloomFilter();
+            return true;
         }
 
         log.debug(
                 "Bloom filter passed (key might exist): cacheName={}, key={}",
                 context.getCacheName(),
                 context.getRedisKey());
-
-        return invokeNext(context);
+        return false;
     }
 
     private CacheResult handlePut(CacheContext context) {
         CacheResult result = invokeNext(context);
 
-        if (result.isSuccess()) {
+        if (result.isSuccess() && context.isBatch()) {
+            deferBatchAdd(context);
+        } else if (result.isSuccess()) {
             bloomSupport.add(context.getCacheName(), context.getActualKey());
             log.debug(
                     "Added key to bloom filter: cacheName={}, key={}",
@@ -67,6 +118,37 @@ public class BloomFilterHandler extends AbstractCacheHandler {
         return result;
     }
 
+    /** 批量读取时对整个批次只查询一次布隆过滤器 */
+    private boolean batchMightContain(CacheContext context) {
+        BatchContext batch = context.getBatch();
+        String cacheName = context.getCacheName();
+        Set<String> candidates =
+                batch.attribute(
+                        BATCH_CANDIDATES + cacheName,
+                        () -> {
+                            List<String> keys = batch.getActualKeys();
+                            boolean[] verdicts = bloomSupport.mightContainAll(cacheName, keys);
+                            Set<String> passed = new HashSet<>();
+                            for (int i = 0; i < keys.size(); i++) {
+                                if (verdicts[i]) {
+                                    passed.add(keys.get(i));
+                                }
+                            }
+                            return passed;
+                        });
+        return candidates.contains(context.getActualKey());
+    }
+
+    /** 批量写入时在 pipeline 提交成功后一次性加入布隆过滤器 */
+    private void deferBatchAdd(CacheContext context) {
+        BatchContext batch = context.getBatch();
+        String cacheName = context.getCacheName();
+        List<String> additions = batch.attribute(BATCH_ADDITIONS + cacheName, ArrayList::new);
+        additions.add(context.getActualKey());
+        batch.afterWrite(
+                BATCH_ADDITIONS + cacheName, () -> bloomSupport.addAll(cacheName, additions));
+    }
+
     private CacheResult handleClean(CacheContext context) {
         CacheResult result = invokeNext(context);
 
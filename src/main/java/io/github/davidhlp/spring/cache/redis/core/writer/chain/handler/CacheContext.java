@@ -1,6 +1,7 @@
 package io.github.davidhlp.spring.cache.redis.core.writer.chain.handler;
 
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheOperation;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.refresh.PreRefreshLoader;
 import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
 import lombok.Builder;
 import lombok.Data;
@@ -27,8 +28,11 @@ public class CacheContext {
     /** 缓存值（字节数组） */
     private byte[] valueBytes;
 
-    /** 反序列化后的值 */
-    private Object deserializedValue;
+    /** 写入的值是否为空值 */
+    private boolean nullValue;
+
+    /** 写入值的重新计算耗时（毫秒），0 表示未记录 */
+    private long computeMillis;
 
     /** TTL */
     @Nullable private Duration ttl;
@@ -45,14 +49,32 @@ public class CacheContext {
     /** 是否从上下文配置获取的 TTL */
     private boolean ttlFromContext;
 
+    /** 命中时缓存剩余的 TTL（秒），-1 表示永久 */
+    private long remainingTtl;
+
+    /** 命中时服务端记录的累计访问次数（脚本命中路径返回），0 表示未知 */
+    private long visitTimes;
+
     /** 键模式（用于清理操作） */
     private String keyPattern;
 
     /** 是否跳过后续处理器 */
     private boolean skipRemaining;
 
-    /** 存储转换后的值（处理 null 值等） */
-    private Object storeValue;
-
     private LockContext lockContext;
+
+    /** 异步预刷新加载器，在调用线程上捕获，非阻塞路径切换到 Redis I/O 线程后仍可使用 */
+    @Nullable private PreRefreshLoader preRefreshLoader;
+
+    /** 批量操作共享状态，单键操作时为 null */
+    @Nullable private BatchContext batch;
+
+    /**
+     * 是否处于批量操作中
+     *
+     * @return 批量操作返回 true
+     */
+    public boolean isBatch() {
+        return batch != null;
+    }
 }
@@ -2,6 +2,9 @@ package io.github.davidhlp.spring.cache.redis.core.writer.chain.handler;
 
 import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheResult;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /** 缓存处理器接口（责任链模式） */
 public interface CacheHandler {
     /**
@@ -12,6 +15,14 @@ public interface CacheHandler {
      */
     CacheResult handle(CacheContext context);
 
+    /**
+     * 非阻塞地处理缓存操作，Redis I/O 由异步连接完成，调用线程不等待网络往返
+     *
+     * @param context 缓存上下文
+     * @return 处理结果
+     */
+    CompletionStage<CacheResult> handleAsync(CacheContext context);
+
     /**
      * 设置下一个处理器
      *
@@ -38,4 +49,17 @@ public interface CacheHandler {
         }
         return CacheResult.success();
     }
+
+    /**
+     * 非阻塞地调用下一个处理器
+     *
+     * @param context 缓存上下文
+     * @return 处理结果
+     */
+    default CompletionStage<CacheResult> invokeNextAsync(CacheContext context) {
+        if (getNext() != null) {
+            return getNext().handleAsync(context);
+        }
+        return CompletableFuture.completedFuture(CacheResult.success());
+    }
 }
@@ -0,0 +1,138 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.chain.handler;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.chain.CacheResult;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.local.LocalCacheSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Local (in-process) cache handler backing {@code @RedisCacheable#useSecondLevelCache}.
+ *
+ * <p>GET is served from the local tier before touching Redis; hits and successful PUTs populate
+ * it. PUT_IF_ABSENT, REMOVE and CLEAN always invalidate, regardless of the operation config.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheHandler extends AbstractCacheHandler {
+
+    private final LocalCacheSupport localCacheSupport;
+    private final CacheStatisticsCollector statistics;
+
+    @Override
+    protected boolean shouldHandle(CacheContext context) {
+        return switch (context.getOperation()) {
+            case GET, PUT -> isLocalCacheEnabled(context);
+            case PUT_IF_ABSENT, REMOVE, CLEAN -> true;
+        };
+    }
+
+    @Override
+    protected CacheResult doHandle(CacheContext context) {
+        return switch (context.getOperation()) {
+            case GET -> handleGet(context);
+            case PUT -> handlePut(context);
+            case PUT_IF_ABSENT, REMOVE -> handleEvict(context);
+            case CLEAN -> handleClean(context);
+        };
+    }
+
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        return switch (context.getOperation()) {
+            case GET -> {
+                byte[] localValue = lookupLocal(context);
+                yield localValue != null
+                        ? CompletableFuture.completedFuture(CacheResult.success(localValue))
+                        : invokeNextAsync(context).thenApply(result -> populate(context, result));
+            }
+            case PUT -> invokeNextAsync(context).thenApply(result -> afterPut(context, result));
+            case PUT_IF_ABSENT, REMOVE ->
+                    invokeNextAsync(context)
+                            .thenApply(
+                                    result -> {
+                                        localCacheSupport.evict(
+                                                context.getCacheName(), context.getRedisKey());
+                                        return result;
+                                    });
+            case CLEAN ->
+                    invokeNextAsync(context)
+                            .thenApply(
+                                    result -> {
+                                        localCacheSupport.clear(context.getCacheName());
+                                        return result;
+                                    });
+        };
+    }
+
+    private boolean isLocalCacheEnabled(CacheContext context) {
+        return context.getCacheOperation() != null
+                && context.getCacheOperation().isUseSecondLevelCache();
+    }
+
+    private CacheResult handleGet(CacheContext context) {
+        byte[] localValue = lookupLocal(context);
+        if (localValue != null) {
+            return CacheResult.success(localValue);
+        }
+        return populate(context, invokeNext(context));
+    }
+
+    private byte[] lookupLocal(CacheContext context) {
+        byte[] localValue = localCacheSupport.get(context.getCacheName(), context.getRedisKey());
+        if (localValue != null) {
+            log.debug(
+                    "Local cache hit: cacheName={}, key={}",
+                    context.getCacheName(),
+                    context.getRedisKey());
+            statistics.incGets(context.getCacheName());
+            statistics.incHits(context.getCacheName());
+        }
+        return localValue;
+    }
+
+    private CacheResult populate(CacheContext context, CacheResult result) {
+        if (result.isSuccess() && result.isHit() && result.getResultBytes() != null) {
+            localCacheSupport.put(
+                    context.getCacheName(),
+                    context.getRedisKey(),
+                    result.getResultBytes(),
+                    context.getRemainingTtl());
+        }
+        return result;
+    }
+
+    private CacheResult handlePut(CacheContext context) {
+        return afterPut(context, invokeNext(context));
+    }
+
+    private CacheResult afterPut(CacheContext context, CacheResult result) {
+        if (result.isSuccess() && !context.isSkipRemaining() && context.getValueBytes() != null) {
+            localCacheSupport.put(
+                    context.getCacheName(),
+                    context.getRedisKey(),
+                    context.getValueBytes(),
+                    context.isShouldApplyTtl() ? context.getFinalTtl() : -1);
+        } else {
+            localCacheSupport.evict(context.getCacheName(), context.getRedisKey());
+        }
+        return result;
+    }
+
+    private CacheResult handleEvict(CacheContext context) {
+        CacheResult result = invokeNext(context);
+        localCacheSupport.evict(context.getCacheName(), context.getRedisKey());
+        return result;
+    }
+
+    private CacheResult handleClean(CacheContext context) {
+        CacheResult result = invokeNext(context);
+        localCacheSupport.clear(context.getCacheName());
+        return result;
+    }
+}
@@ -7,6 +7,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Null value handler applying the configured null caching policy.
  */
@@ -25,16 +28,29 @@ public class NullValueHandler extends AbstractCacheHandler {
 
     @Override
     protected CacheResult doHandle(CacheContext context) {
-        Object deserializedValue = context.getDeserializedValue();
+        if (skipNullValue(context)) {
+            return CacheResult.success();
+        }
+        return invokeNext(context);
+    }
 
-        if (deserializedValue == null) {
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        if (skipNullValue(context)) {
+            return CompletableFuture.completedFuture(CacheResult.success());
+        }
+        return invokeNextAsync(context);
+    }
+
+    private boolean skipNullValue(CacheContext context) {
+        if (context.isNullValue()) {
             if (!nullValuePolicy.shouldCacheNull(context.getCacheOperation())) {
                 log.debug(
                         "Skipping null value caching (cacheNullValues=false): cacheName={}, key={}",
                         context.getCacheName(),
                         context.getRedisKey());
                 context.setSkipRemaining(true);
-                return CacheResult.success();
+                return true;
             }
 
             log.debug(
@@ -42,11 +58,6 @@ public class NullValueHandler extends AbstractCacheHandler {
                     context.getCacheName(),
                     context.getRedisKey());
         }
-
-        Object storeValue =
-                nullValuePolicy.toStoreValue(deserializedValue, context.getCacheOperation());
-        context.setStoreValue(storeValue);
-
-        return invokeNext(context);
+        return false;
     }
-}
\ No newline at end of file
+}
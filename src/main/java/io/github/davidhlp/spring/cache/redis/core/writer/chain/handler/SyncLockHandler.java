@@ -10,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.CompletionStage;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,13 +21,15 @@ public class SyncLockHandler extends AbstractCacheHandler {
 
 	@Override
 	protected boolean shouldHandle(CacheContext context) {
-		if (context.getCacheOperation() == null || !context.getCacheOperation().isSync()) {
+		// 批量操作的 I/O 由写入器统一提交，不逐键加锁
+		if (context.isBatch()
+				|| context.getCacheOperation() == null
+				|| !context.getCacheOperation().isSync()) {
 			return false;
 		}
 		CacheOperation operation = context.getOperation();
-		return operation == CacheOperation.GET
-				|| operation == CacheOperation.PUT_IF_ABSENT
-				|| operation == CacheOperation.PUT;
+		// PUT_IF_ABSENT 由单条原子命令完成，无需加锁
+		return operation == CacheOperation.GET || operation == CacheOperation.PUT;
 	}
 
     @Override
@@ -43,6 +47,12 @@ public class SyncLockHandler extends AbstractCacheHandler {
         return invokeNext(context);
     }
 
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        context.setLockContext(initializeLockContext(context));
+        return invokeNextAsync(context);
+    }
+
     private long resolveTimeout(RedisCacheableOperation operation) {
         if (operation == null) {
             return DEFAULT_LOCK_TIMEOUT;
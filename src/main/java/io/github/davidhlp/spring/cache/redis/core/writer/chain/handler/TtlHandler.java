@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * TTL handler responsible for calculating final TTL values.
@@ -33,6 +34,12 @@ public class TtlHandler extends AbstractCacheHandler {
         return invokeNext(context);
     }
 
+    @Override
+    protected CompletionStage<CacheResult> doHandleAsync(CacheContext context) {
+        calculateTtl(context);
+        return invokeNextAsync(context);
+    }
+
     private void calculateTtl(CacheContext context) {
         Duration ttl = context.getTtl();
         if (ttl == null) {
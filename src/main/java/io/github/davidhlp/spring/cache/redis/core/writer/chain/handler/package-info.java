@@ -19,7 +19,9 @@
  *     ↓
  * 4. NullValueHandler      - 空值处理
  *     ↓
- * 5. ActualCacheHandler    - 实际缓存操作
+ * 5. LocalCacheHandler     - 进程内二级缓存（L1）
+ *     ↓
+ * 6. ActualCacheHandler    - 实际缓存操作
  *     ↓
  * CacheResult
  * </pre>
@@ -0,0 +1,32 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.access;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 缓存访问统计（lastAccessTime / visitTimes）异步回写的配置持有者。
+ */
+@Getter
+@Component
+public class AccessTrackingConfig {
+
+	private final boolean enabled;
+	private final String keyPrefix;
+	private final long flushIntervalMillis;
+	private final int maxPendingKeys;
+	private final long retentionSeconds;
+
+	public AccessTrackingConfig(
+			@Value("${spring.resiCache.access.enabled:true}") boolean enabled,
+			@Value("${spring.resiCache.access.prefix:access:}") String keyPrefix,
+			@Value("${spring.resiCache.access.flush-interval-ms:1000}") long flushIntervalMillis,
+			@Value("${spring.resiCache.access.max-pending-keys:100000}") int maxPendingKeys,
+			@Value("${spring.resiCache.access.retention-seconds:86400}") long retentionSeconds) {
+		this.enabled = enabled;
+		this.keyPrefix = keyPrefix;
+		this.flushIntervalMillis = Math.max(50, flushIntervalMillis);
+		this.maxPendingKeys = Math.max(1, maxPendingKeys);
+		this.retentionSeconds = Math.max(1, retentionSeconds);
+	}
+}
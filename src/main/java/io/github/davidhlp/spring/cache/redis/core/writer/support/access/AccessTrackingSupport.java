@@ -0,0 +1,292 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.access;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存访问统计的本地聚合与异步回写。
+ *
+ * <p>命中路径只记录到本地计数器，由后台线程按固定间隔将每个键累计的访问次数与最近访问时间通过一次 pipeline
+ * 写入独立的 Hash 键（{@code prefix + redisKey}），从而保证一次命中只产生一次 GET。
+ */
+@Slf4j
+@Component
+public class AccessTrackingSupport {
+
+    public static final String FIELD_VISIT_TIMES = "visitTimes";
+    public static final String FIELD_LAST_ACCESS_TIME = "lastAccessTime";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AccessTrackingConfig config;
+    private final ConcurrentHashMap<String, PendingAccess> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public AccessTrackingSupport(
+            RedisTemplate<String, Object> redisTemplate, AccessTrackingConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "cache-access-flush");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        if (config.isEnabled()) {
+            long interval = config.getFlushIntervalMillis();
+            scheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 记录一次缓存命中
+     *
+     * @param redisKey Redis 键
+     * @param remainingTtlSeconds 缓存剩余 TTL（秒），-1 表示永久
+     * @param sampleRate 采样率，取值 (0, 1]；小于等于 0 表示不记录
+     */
+    public void recordAccess(String redisKey, long remainingTtlSeconds, double sampleRate) {
+        if (redisKey == null) {
+            return;
+        }
+        long weight = sampleWeight(sampleRate);
+        if (weight == 0L) {
+            return;
+        }
+
+        record(redisKey, weight, System.currentTimeMillis(), remainingTtlSeconds);
+    }
+
+    /**
+     * 累计到键对应的条目。已有条目时只做无锁累加，仅首次出现的键经过 computeIfAbsent；累加后发现条目已被 flush 退役时，
+     * 取回退役后写入的计数并登记到新条目，与 flush 的最终取数以原子交换区分，每次计数只会被取走一次
+     */
+    private void record(String redisKey, long weight, long now, long remainingTtlSeconds) {
+        PendingAccess access = pending.get(redisKey);
+        if (access == null) {
+            if (pending.size() >= config.getMaxPendingKeys()) {
+                log.debug("Access tracking buffer full, dropping sample: key={}", redisKey);
+                return;
+            }
+            access = pending.computeIfAbsent(redisKey, k -> new PendingAccess());
+        }
+        access.record(weight, now, remainingTtlSeconds);
+        if (access.isRetired()) {
+            long late = access.drainVisits();
+            if (late > 0) {
+                record(redisKey, late, now, remainingTtlSeconds);
+            }
+        }
+    }
+
+    /**
+     * 按采样率决定本次访问是否记录，并返回记录时的权重
+     *
+     * @param sampleRate 采样率，取值 (0, 1]；小于等于 0 表示不记录
+     * @return 本次访问应累计的次数，未启用或未被采样时返回 0
+     */
+    public long sampleWeight(double sampleRate) {
+        if (!config.isEnabled() || sampleRate <= 0) {
+            return 0L;
+        }
+        if (sampleRate >= 1.0) {
+            return 1L;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return 0L;
+        }
+        return Math.max(1L, Math.round(1.0 / sampleRate));
+    }
+
+    /**
+     * 丢弃指定键尚未回写的访问统计
+     *
+     * @param redisKey Redis 键
+     */
+    public void discard(String redisKey) {
+        if (redisKey != null) {
+            pending.remove(redisKey);
+        }
+    }
+
+    /**
+     * 获取指定键在当前回写周期内本地累计的访问次数（已按采样权重折算）
+     *
+     * @param redisKey Redis 键
+     * @return 尚未回写的访问次数，没有记录时返回 0
+     */
+    public long pendingVisits(String redisKey) {
+        PendingAccess access = redisKey != null ? pending.get(redisKey) : null;
+        return access != null ? access.visits.sum() : 0L;
+    }
+
+    /**
+     * 获取访问统计对应的 Redis 键
+     *
+     * @param redisKey 缓存 Redis 键
+     * @return 访问统计 Hash 键
+     */
+    public String accessKey(String redisKey) {
+        return config.getKeyPrefix() + redisKey;
+    }
+
+    /**
+     * 是否启用访问统计
+     *
+     * @return 启用返回 true
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 获取待回写的键数量
+     *
+     * @return 待回写的键数量
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /** 将本地累计的访问统计通过 pipeline 回写到 Redis */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, PendingAccess.Snapshot>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<String, PendingAccess> entry : pending.entrySet()) {
+            // 交换取出本周期的计数，条目保留在表中，并发的累加落入下一周期
+            PendingAccess access = entry.getValue();
+            long visits = access.drainVisits();
+            if (visits == 0L) {
+                // 一个周期内没有访问的条目退役移除，退役后仍写入的计数由最终取数或 recordAccess 取回
+                access.retire();
+                pending.remove(entry.getKey(), access);
+                visits = access.drainVisits();
+                if (visits == 0L) {
+                    continue;
+                }
+            }
+            batch.add(Map.entry(entry.getKey(), access.snapshot(visits)));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        byte[] visitField = FIELD_VISIT_TIMES.getBytes(StandardCharsets.UTF_8);
+        byte[] lastAccessField = FIELD_LAST_ACCESS_TIME.getBytes(StandardCharsets.UTF_8);
+        long defaultRetentionMillis = TimeUnit.SECONDS.toMillis(config.getRetentionSeconds());
+
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (Map.Entry<String, PendingAccess.Snapshot> entry : batch) {
+                                writeAccess(
+                                        connection,
+                                        accessKey(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                                        entry.getValue(),
+                                        visitField,
+                                        lastAccessField,
+                                        defaultRetentionMillis);
+                            }
+                            return null;
+                        });
+
+        log.debug("Flushed access statistics for {} keys", batch.size());
+    }
+
+    private void writeAccess(
+            RedisConnection connection,
+            byte[] key,
+            PendingAccess.Snapshot snapshot,
+            byte[] visitField,
+            byte[] lastAccessField,
+            long defaultRetentionMillis) {
+        connection.hashCommands().hIncrBy(key, visitField, snapshot.visits());
+        connection
+                .hashCommands()
+                .hSet(
+                        key,
+                        lastAccessField,
+                        Long.toString(snapshot.lastAccessTime()).getBytes(StandardCharsets.UTF_8));
+        long expireMillis =
+                snapshot.expireAt() > 0
+                        ? snapshot.expireAt() - System.currentTimeMillis()
+                        : defaultRetentionMillis;
+        connection.keyCommands().pExpire(key, Math.max(1L, expireMillis));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush cache access statistics", e);
+        }
+    }
+
+    /** 关闭后台回写线程，并尽量回写剩余统计 */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (config.isEnabled()) {
+            flushSafely();
+        }
+    }
+
+    /** 单个键尚未回写的访问统计，跨回写周期复用，直到一个周期内没有访问后退役 */
+    private static final class PendingAccess {
+        private final LongAdder visits = new LongAdder();
+        private final LongAccumulator lastAccessTime = new LongAccumulator(Math::max, 0L);
+        private volatile long expireAt;
+        private volatile boolean retired;
+
+        void record(long weight, long now, long remainingTtlSeconds) {
+            visits.add(weight);
+            lastAccessTime.accumulate(now);
+            expireAt = remainingTtlSeconds > 0 ? now + TimeUnit.SECONDS.toMillis(remainingTtlSeconds) : 0L;
+        }
+
+        /** 取出并清零累计的访问次数；各分段以原子交换清零，并发累加不会丢失 */
+        long drainVisits() {
+            return visits.sumThenReset();
+        }
+
+        void retire() {
+            retired = true;
+        }
+
+        boolean isRetired() {
+            return retired;
+        }
+
+        Snapshot snapshot(long drainedVisits) {
+            return new Snapshot(drainedVisits, lastAccessTime.get(), expireAt);
+        }
+
+        record Snapshot(long visits, long lastAccessTime, long expireAt) {}
+    }
+}
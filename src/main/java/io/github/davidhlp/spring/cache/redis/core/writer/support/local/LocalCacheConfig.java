@@ -0,0 +1,27 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.local;
+
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategyFactory;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 进程内二级缓存（L1）行为的配置持有者。
+ */
+@Getter
+@Component
+public class LocalCacheConfig {
+
+	private final int maxSize;
+	private final long ttlSeconds;
+	private final EvictionStrategyFactory.StrategyType strategy;
+
+	public LocalCacheConfig(
+			@Value("${spring.resiCache.local.max-size:10000}") int maxSize,
+			@Value("${spring.resiCache.local.ttl-seconds:30}") long ttlSeconds,
+			@Value("${spring.resiCache.local.strategy:TWO_LIST}") EvictionStrategyFactory.StrategyType strategy) {
+		this.maxSize = Math.max(16, maxSize);
+		this.ttlSeconds = Math.max(1, ttlSeconds);
+		this.strategy = strategy;
+	}
+}
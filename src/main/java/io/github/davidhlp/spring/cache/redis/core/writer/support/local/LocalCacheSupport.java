@@ -0,0 +1,128 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.local;
+
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategy;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategyFactory;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.stats.EvictionStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 进程内二级缓存（L1），按缓存名称隔离，容量与 TTL 均受 {@link LocalCacheConfig} 限制。
+ *
+ * <p>存储的是返回给 {@code RedisCache} 的序列化字节，命中时无需访问 Redis，也无需再次编解码。
+ * 本地条目不会跨节点失效，其过期时间取本地 TTL 与 Redis 剩余 TTL 的较小值，以此约束陈旧窗口。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheSupport {
+
+    private final LocalCacheConfig config;
+    private final ConcurrentMap<String, EvictionStrategy<String, LocalEntry>> localCaches =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 读取本地缓存，过期条目会被顺带移除
+     *
+     * @param cacheName 缓存名称
+     * @param key Redis 完整 key
+     * @return 缓存的字节数组，不存在或已过期返回 null
+     */
+    @Nullable
+    public byte[] get(String cacheName, String key) {
+        EvictionStrategy<String, LocalEntry> cache = localCaches.get(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        LocalEntry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt() <= System.currentTimeMillis()) {
+            cache.remove(key);
+            log.debug("Local cache entry expired: cacheName={}, key={}", cacheName, key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 写入本地缓存
+     *
+     * @param cacheName 缓存名称
+     * @param key Redis 完整 key
+     * @param value 序列化后的值
+     * @param remainingTtlSeconds Redis 中剩余的 TTL（秒），-1 表示永久，0 表示即将过期（不写入）
+     */
+    public void put(String cacheName, String key, byte[] value, long remainingTtlSeconds) {
+        if (value == null || remainingTtlSeconds == 0) {
+            return;
+        }
+        long ttlSeconds =
+                remainingTtlSeconds < 0
+                        ? config.getTtlSeconds()
+                        : Math.min(config.getTtlSeconds(), remainingTtlSeconds);
+        long expireAt = System.currentTimeMillis() + ttlSeconds * 1000;
+        cacheFor(cacheName).put(key, new LocalEntry(value, expireAt));
+        log.debug(
+                "Local cache populated: cacheName={}, key={}, ttl={}s", cacheName, key, ttlSeconds);
+    }
+
+    /**
+     * 移除本地缓存中的单个条目
+     *
+     * @param cacheName 缓存名称
+     * @param key Redis 完整 key
+     */
+    public void evict(String cacheName, String key) {
+        EvictionStrategy<String, LocalEntry> cache = localCaches.get(cacheName);
+        if (cache != null && cache.remove(key) != null) {
+            log.debug("Local cache entry evicted: cacheName={}, key={}", cacheName, key);
+        }
+    }
+
+    /**
+     * 清空指定缓存对应的本地缓存
+     *
+     * @param cacheName 缓存名称
+     */
+    public void clear(String cacheName) {
+        EvictionStrategy<String, LocalEntry> cache = localCaches.remove(cacheName);
+        if (cache != null) {
+            cache.clear();
+            log.debug("Local cache cleared: cacheName={}", cacheName);
+        }
+    }
+
+    /**
+     * 获取指定缓存的本地缓存统计信息
+     *
+     * @param cacheName 缓存名称
+     * @return 统计信息，本地缓存尚未创建时返回 null
+     */
+    @Nullable
+    public EvictionStats getStats(String cacheName) {
+        EvictionStrategy<String, LocalEntry> cache = localCaches.get(cacheName);
+        return cache != null ? cache.getStats() : null;
+    }
+
+    private EvictionStrategy<String, LocalEntry> cacheFor(String cacheName) {
+        return localCaches.computeIfAbsent(
+                cacheName,
+                name ->
+                        EvictionStrategyFactory.create(config.getStrategy(), config.getMaxSize()));
+    }
+
+    /**
+     * 本地缓存条目
+     *
+     * @param value 序列化后的值
+     * @param expireAt 过期时间戳（毫秒）
+     */
+    private record LocalEntry(byte[] value, long expireAt) {}
+}
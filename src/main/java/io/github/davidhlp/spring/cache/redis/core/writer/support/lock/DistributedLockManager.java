@@ -7,7 +7,10 @@ import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -20,6 +23,9 @@ class DistributedLockManager implements LockManager {
 
     private static final String LOCK_PREFIX = "cache:lock:";
 
+    /** 等待 Redisson 返回加锁结果的额外宽限时间（秒） */
+    private static final long ACQUIRE_GRACE_SECONDS = 5;
+
     private final RedissonClient redissonClient;
 
     /**
@@ -34,9 +40,16 @@ class DistributedLockManager implements LockManager {
     public Optional<LockHandle> tryAcquire(String key, long timeoutSeconds) throws InterruptedException {
         String lockKey = LOCK_PREFIX + key;
         RLock lock = redissonClient.getLock(lockKey);
+        long threadId = Thread.currentThread().getId();
 
+        // 使用异步接口并在 CompletableFuture 上等待，避免 Redisson 同步阻塞在虚拟线程上固定载体线程
+        CompletableFuture<Boolean> acquisition =
+                lock.tryLockAsync(timeoutSeconds, -1, TimeUnit.SECONDS, threadId)
+                        .toCompletableFuture();
         try {
-            boolean acquired = lock.tryLock(timeoutSeconds, -1, TimeUnit.SECONDS);
+            boolean acquired =
+                    Boolean.TRUE.equals(
+                            acquisition.get(timeoutSeconds + ACQUIRE_GRACE_SECONDS, TimeUnit.SECONDS));
             if (!acquired) {
                 log.warn(
                         "Failed to acquire distributed lock for key within {} seconds: {}",
@@ -46,14 +59,36 @@ class DistributedLockManager implements LockManager {
             }
 
             log.debug("Acquired distributed lock for key: {}", key);
-            return Optional.of(new RedissonLockHandle(lock, key));
+            return Optional.of(new RedissonLockHandle(lock, key, threadId));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            releaseIfAcquiredLater(acquisition, lock, key, threadId);
             log.error("Interrupted while waiting for distributed lock on key: {}", key, e);
             throw e;
+        } catch (TimeoutException e) {
+            releaseIfAcquiredLater(acquisition, lock, key, threadId);
+            log.warn("Timed out waiting for distributed lock response on key: {}", key);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.error("Failed to acquire distributed lock on key: {}", key, e.getCause());
+            return Optional.empty();
         }
     }
 
+    /**
+     * 放弃等待后若锁最终仍被获取，立即异步释放，避免锁泄漏
+     */
+    private void releaseIfAcquiredLater(
+            CompletableFuture<Boolean> acquisition, RLock lock, String key, long threadId) {
+        acquisition.thenAccept(
+                acquired -> {
+                    if (Boolean.TRUE.equals(acquired)) {
+                        lock.unlockAsync(threadId);
+                        log.debug("Released abandoned distributed lock for key: {}", key);
+                    }
+                });
+    }
+
     @Override
     public int getOrder() {
         return 0;
@@ -66,16 +101,18 @@ class DistributedLockManager implements LockManager {
 
         private final RLock lock;
         private final String key;
+        private final long threadId;
         private final AtomicBoolean closed = new AtomicBoolean(false);
 
-        private RedissonLockHandle(RLock lock, String key) {
+        private RedissonLockHandle(RLock lock, String key, long threadId) {
             this.lock = lock;
             this.key = key;
+            this.threadId = threadId;
         }
 
         /**
          * 释放分布式锁
-         * 只有持有锁的线程才能释放锁，且每个锁只能被释放一次
+         * 以加锁时的线程标识异步释放，且每个锁只能被释放一次
          */
         @Override
         public void close() {
@@ -83,13 +120,14 @@ class DistributedLockManager implements LockManager {
                 return;
             }
 
-            if (!lock.isHeldByCurrentThread()) {
-                return;
-            }
-
             try {
-                lock.unlock();
+                lock.unlockAsync(threadId)
+                        .toCompletableFuture()
+                        .get(ACQUIRE_GRACE_SECONDS, TimeUnit.SECONDS);
                 log.debug("Released distributed lock for key: {}", key);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while releasing distributed lock for key: {}", key, e);
             } catch (Exception e) {
                 log.error("Failed to release distributed lock for key: {}", key, e);
             }
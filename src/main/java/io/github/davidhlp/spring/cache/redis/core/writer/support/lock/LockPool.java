@@ -0,0 +1,146 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.lock;
+
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.stats.LockPoolStats;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.support.TwoListLRU;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 有界的按键锁池
+ *
+ * <p>热点键复用 {@link TwoListLRU} 中的 {@link ReentrantLock}，只有未被持有且无等待线程的锁才会被淘汰。
+ * 同一时刻一个键只对应池中的一把锁：池中全部锁都被占用时，获取方在超时时间内等待有锁释放后重试，而不是改用另一把锁，
+ * 否则先后拿到不同锁的两个线程会同时进入临界区。
+ */
+@Slf4j
+class LockPool {
+
+    /** 池满时两次重试之间的等待时长 */
+    private static final long CAPACITY_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final TwoListLRU<String, ReentrantLock> locks;
+    private final AtomicBoolean exhausted = new AtomicBoolean();
+    private final int maxActiveSize;
+    private final int maxInactiveSize;
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    LockPool(LockPoolConfig config) {
+        this.maxActiveSize = config.getMaxActiveSize();
+        this.maxInactiveSize = config.getMaxInactiveSize();
+        this.locks =
+                new TwoListLRU<>(
+                        maxActiveSize,
+                        maxInactiveSize,
+                        lock -> !lock.isLocked() && !lock.hasQueuedThreads());
+    }
+
+    /**
+     * 在超时时间内获取并持有指定键的锁
+     *
+     * <p>基于 {@link ReentrantLock#tryLock(long, TimeUnit)}，等待期间不会固定虚拟线程的载体线程，并响应中断。池中全部锁都被占用时，
+     * 在同一超时时间内等待有锁释放。
+     *
+     * @param key 键
+     * @param timeout 等待时长
+     * @param unit 时间单位
+     * @return 已持有的锁，使用完毕后必须调用 {@link #release(ReentrantLock)}；超时返回null
+     * @throws InterruptedException 等待过程中线程被中断
+     */
+    @Nullable
+    ReentrantLock tryAcquire(String key, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            ReentrantLock lock = lockFor(key);
+            long remaining = deadline - System.nanoTime();
+            if (lock == null) {
+                if (remaining <= 0L) {
+                    return null;
+                }
+                awaitCapacity(remaining);
+                continue;
+            }
+            if (!lock.tryLock(Math.max(0L, remaining), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            if (locks.get(key) == lock) {
+                acquires.increment();
+                return lock;
+            }
+            // 加锁前该锁已被淘汰并由其他线程重建，重新获取
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 释放锁
+     *
+     * @param lock 由 {@link #tryAcquire(String, long, TimeUnit)} 返回的锁
+     */
+    void release(ReentrantLock lock) {
+        lock.unlock();
+        releases.increment();
+    }
+
+    /**
+     * 获取锁池统计信息
+     *
+     * @return 统计信息
+     */
+    LockPoolStats getStats() {
+        return new LockPoolStats(
+                locks.size(),
+                locks.getActiveSize(),
+                locks.getInactiveSize(),
+                maxActiveSize,
+                maxInactiveSize,
+                acquires.sum(),
+                releases.sum(),
+                hits.sum(),
+                misses.sum(),
+                locks.getTotalEvictions());
+    }
+
+    /** 返回键当前对应的锁，池中全部锁都被占用时返回null */
+    @Nullable
+    private ReentrantLock lockFor(String key) {
+        ReentrantLock lock = locks.get(key);
+        if (lock != null) {
+            hits.increment();
+            return lock;
+        }
+        misses.increment();
+        ReentrantLock pooled = locks.putIfAbsent(key, new ReentrantLock());
+        if (pooled != null) {
+            if (exhausted.compareAndSet(true, false)) {
+                log.info("Lock pool has free capacity again");
+            }
+            return pooled;
+        }
+        if (exhausted.compareAndSet(false, true)) {
+            log.warn(
+                    "Lock pool exhausted, waiting for a lock to be released: maxActive={}, maxInactive={}",
+                    maxActiveSize,
+                    maxInactiveSize);
+        }
+        return null;
+    }
+
+    private void awaitCapacity(long remainingNanos) throws InterruptedException {
+        LockSupport.parkNanos(this, Math.min(remainingNanos, CAPACITY_WAIT_NANOS));
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.lock;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 本地锁池的配置持有者。
+ */
+@Getter
+@Component
+public class LockPoolConfig {
+
+	private final int maxActiveSize;
+	private final int maxInactiveSize;
+
+	public LockPoolConfig(
+			@Value("${spring.resiCache.lock.pool.max-active:4096}") int maxActiveSize,
+			@Value("${spring.resiCache.lock.pool.max-inactive:2048}") int maxInactiveSize) {
+		this.maxActiveSize = Math.max(1, maxActiveSize);
+		this.maxInactiveSize = Math.max(1, maxInactiveSize);
+	}
+}
@@ -1,13 +1,14 @@
 package io.github.davidhlp.spring.cache.redis.core.writer.support.lock;
 
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.stats.LockPoolStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -18,16 +19,18 @@ import java.util.function.Supplier;
 public class SyncSupport {
 
 	private final List<LockManager> distributedManagers;
-	private final ConcurrentMap<String, Object> localMonitors = new ConcurrentHashMap<>();
+	private final LockPool lockPool;
 
     /**
      * 构造函数
      *
      * @param lockManagers 锁管理器列表
+     * @param lockPoolConfig 本地锁池配置
      */
-	public SyncSupport(List<LockManager> lockManagers) {
+	public SyncSupport(List<LockManager> lockManagers, LockPoolConfig lockPoolConfig) {
         lockManagers.sort((o1, o2) -> o2.getOrder() - o1.getOrder());
 		this.distributedManagers = List.copyOf(lockManagers);
+		this.lockPool = new LockPool(lockPoolConfig);
     }
 
     /**
@@ -40,8 +43,8 @@ public class SyncSupport {
      * @return 执行结果
      */
 	public <T> T executeSync(String key, Supplier<T> loader, long timeoutSeconds) {
-		Object monitor = localMonitors.computeIfAbsent(key, k -> new Object());
-		synchronized (monitor) {
+		ReentrantLock localLock = acquireLocal(key, timeoutSeconds);
+		try {
 			if (distributedManagers.isEmpty()) {
                 return loader.get();
             }
@@ -50,7 +53,7 @@ public class SyncSupport {
 				for (LockManager manager : distributedManagers) {
                     manager.tryAcquire(key, timeoutSeconds).ifPresentOrElse(lockStack::push, () -> {
                         log.warn("Lock manager {} failed to acquire distributed lock for key: {}", manager.getClass().getSimpleName(), key);
-                        throw new RuntimeException("Failed to acquire distributed lock");
+                        throw new IllegalStateException("Failed to acquire distributed lock");
                     });
                 }
 
@@ -60,13 +63,53 @@ public class SyncSupport {
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 				log.error("Interrupted while acquiring distributed lock for key: {}", key, e);
-				return loader.get();
-			} finally {
-                localMonitors.remove(key, monitor);
+				throw new IllegalStateException("Interrupted while acquiring distributed lock", e);
+			}
+		} finally {
+			lockPool.release(localLock);
+        }
+    }
+
+    /**
+     * 在超时时间内获取本地锁，等待期间可中断且不固定虚拟线程
+     *
+     * @param key            缓存键
+     * @param timeoutSeconds 超时时间（秒）
+     * @return 已持有的本地锁
+     */
+    private ReentrantLock acquireLocal(String key, long timeoutSeconds) {
+        try {
+            ReentrantLock lock = lockPool.tryAcquire(key, timeoutSeconds, TimeUnit.SECONDS);
+            if (lock == null) {
+                log.warn("Failed to acquire local lock for key within {} seconds: {}", timeoutSeconds, key);
+                throw new IllegalStateException("Failed to acquire local lock");
             }
+            return lock;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while acquiring local lock for key: {}", key, e);
+            throw new IllegalStateException("Interrupted while acquiring local lock", e);
         }
     }
 
+    /**
+     * 获取本地锁池的实时统计信息
+     *
+     * @return 锁池统计信息
+     */
+    public LockPoolStats getLockPoolStats() {
+        return lockPool.getStats();
+    }
+
+    /**
+     * 是否配置了分布式锁管理器（跨节点保护）
+     *
+     * @return 存在分布式锁管理器时返回true
+     */
+    public boolean hasDistributedLockManagers() {
+        return !distributedManagers.isEmpty();
+    }
+
     /**
      * 锁堆栈类，用于管理多个锁的自动关闭
      */
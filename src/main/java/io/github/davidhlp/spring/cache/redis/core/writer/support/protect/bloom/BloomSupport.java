@@ -5,6 +5,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Bloom 过滤器统一入口，屏蔽底层实现细节并提供降级兜底。
  */
@@ -38,6 +43,67 @@ public class BloomSupport {
         }
     }
 
+    /**
+     * 异步判断缓存是否可能存在指定键，不阻塞调用线程，异常时默认放行。
+     */
+    public CompletionStage<Boolean> mightContainAsync(String cacheName, String key) {
+        try {
+            return bloomIFilter
+                    .mightContainAsync(cacheName, key)
+                    .exceptionally(
+                            ex -> {
+                                log.error("Bloom filter mightContain failed, fallback to allow: cacheName={}, key={}", cacheName, key, ex);
+                                return true;
+                            });
+        } catch (Exception ex) {
+            log.error("Bloom filter mightContain failed, fallback to allow: cacheName={}, key={}", cacheName, key, ex);
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+
+    /**
+     * 异步将指定键加入 Bloom 过滤器，不阻塞调用线程，异常时仅记录日志。
+     */
+    public CompletionStage<Void> addAsync(String cacheName, String key) {
+        try {
+            return bloomIFilter
+                    .addAsync(cacheName, key)
+                    .exceptionally(
+                            ex -> {
+                                log.error("Bloom filter add failed: cacheName={}, key={}", cacheName, key, ex);
+                                return null;
+                            });
+        } catch (Exception ex) {
+            log.error("Bloom filter add failed: cacheName={}, key={}", cacheName, key, ex);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 批量判断缓存是否可能存在指定键，结果与 keys 顺序一一对应，异常时全部放行。
+     */
+    public boolean[] mightContainAll(String cacheName, List<String> keys) {
+        try {
+            return bloomIFilter.mightContainAll(cacheName, keys);
+        } catch (Exception ex) {
+            log.error("Bloom filter mightContainAll failed, fallback to allow: cacheName={}, keys={}", cacheName, keys.size(), ex);
+            boolean[] results = new boolean[keys.size()];
+            Arrays.fill(results, true);
+            return results;
+        }
+    }
+
+    /**
+     * 批量将键加入 Bloom 过滤器，异常时仅记录日志。
+     */
+    public void addAll(String cacheName, List<String> keys) {
+        try {
+            bloomIFilter.addAll(cacheName, keys);
+        } catch (Exception ex) {
+            log.error("Bloom filter addAll failed: cacheName={}, keys={}", cacheName, keys.size(), ex);
+        }
+    }
+
     /**
      * 清理指定缓存对应的 Bloom 过滤器。
      */
@@ -1,5 +1,9 @@
 package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.filter;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * 用于保护缺失键的缓存布隆过滤器抽象。
  */
@@ -15,6 +19,49 @@ public interface BloomIFilter {
      */
     boolean mightContain(String cacheName, String key);
 
+    /**
+     * 批量将键添加到指定缓存的布隆过滤器中。
+     */
+    default void addAll(String cacheName, List<String> keys) {
+        for (String key : keys) {
+            add(cacheName, key);
+        }
+    }
+
+    /**
+     * 批量检查布隆过滤器，结果与 keys 顺序一一对应。
+     */
+    default boolean[] mightContainAll(String cacheName, List<String> keys) {
+        boolean[] results = new boolean[keys.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = mightContain(cacheName, keys.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * 异步将键添加到布隆过滤器中，默认在调用线程上同步执行；访问远程存储的实现应覆盖为非阻塞调用。
+     */
+    default CompletionStage<Void> addAsync(String cacheName, String key) {
+        add(cacheName, key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 异步检查布隆过滤器是否可能包含该键，默认在调用线程上同步执行；访问远程存储的实现应覆盖为非阻塞调用。
+     */
+    default CompletionStage<Boolean> mightContainAsync(String cacheName, String key) {
+        return CompletableFuture.completedFuture(mightContain(cacheName, key));
+    }
+
+    /**
+     * 检查结果当前是否可信。不可信时（如旧版过滤器尚未迁移）检查一律放行，返回 true 不代表键曾被添加，调用方不应据此预热其他过滤器。
+     * 状态只会由不可信变为可信，先确认可信再检查即可保证检查结果可信。
+     */
+    default boolean isAuthoritative(String cacheName) {
+        return true;
+    }
+
     /** 清空指定缓存的布隆过滤器。 */
     void clear(String cacheName);
 }
\ No newline at end of file
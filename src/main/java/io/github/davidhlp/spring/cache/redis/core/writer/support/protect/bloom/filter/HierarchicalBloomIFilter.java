@@ -5,8 +5,15 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * JVM + Redis 双层布隆过滤器，优先使用 JVM 过滤结果，必要时回退 Redis。
+ *
+ * <p>仅在 Redis 过滤器可信时用其命中结果预热 JVM 过滤器；不可信期间（如旧版过滤器迁移中）直接放行，避免将不存在的键写入 JVM 过滤器。
  */
 @Slf4j
 @Primary
@@ -33,6 +40,10 @@ public class HierarchicalBloomIFilter implements BloomIFilter {
             log.debug("Local bloom filter hit, skip Redis: cacheName={}, key={}", cacheName, key);
             return true;
         }
+        if (!remoteFilter.isAuthoritative(cacheName)) {
+            log.debug("Redis bloom filter not authoritative, allow without warming local: cacheName={}, key={}", cacheName, key);
+            return true;
+        }
 
         boolean remoteHit = remoteFilter.mightContain(cacheName, key);
         if (remoteHit) {
@@ -44,6 +55,99 @@ public class HierarchicalBloomIFilter implements BloomIFilter {
         return remoteHit;
     }
 
+    @Override
+    public CompletionStage<Void> addAsync(String cacheName, String key) {
+        localFilter.add(cacheName, key);
+        return remoteFilter.addAsync(cacheName, key);
+    }
+
+    @Override
+    public CompletionStage<Boolean> mightContainAsync(String cacheName, String key) {
+        if (localFilter.mightContain(cacheName, key)) {
+            log.debug("Local bloom filter hit, skip Redis: cacheName={}, key={}", cacheName, key);
+            return CompletableFuture.completedFuture(true);
+        }
+        if (!remoteFilter.isAuthoritative(cacheName)) {
+            log.debug("Redis bloom filter not authoritative, allow without warming local: cacheName={}, key={}", cacheName, key);
+            return CompletableFuture.completedFuture(true);
+        }
+        return remoteFilter
+                .mightContainAsync(cacheName, key)
+                .thenApply(
+                        remoteHit -> {
+                            if (remoteHit) {
+                                log.debug(
+                                        "Redis bloom filter hit after local miss, warm local: cacheName={}, key={}",
+                                        cacheName,
+                                        key);
+                                localFilter.add(cacheName, key);
+                            } else {
+                                log.debug(
+                                        "Redis bloom filter miss confirmed: cacheName={}, key={}",
+                                        cacheName,
+                                        key);
+                            }
+                            return remoteHit;
+                        });
+    }
+
+    @Override
+    public void addAll(String cacheName, List<String> keys) {
+        localFilter.addAll(cacheName, keys);
+        remoteFilter.addAll(cacheName, keys);
+    }
+
+    @Override
+    public boolean[] mightContainAll(String cacheName, List<String> keys) {
+        boolean[] results = localFilter.mightContainAll(cacheName, keys);
+
+        List<Integer> missIndexes = new ArrayList<>();
+        List<String> missKeys = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (!results[i]) {
+                missIndexes.add(i);
+                missKeys.add(keys.get(i));
+            }
+        }
+        if (missKeys.isEmpty()) {
+            return results;
+        }
+        if (!remoteFilter.isAuthoritative(cacheName)) {
+            for (int index : missIndexes) {
+                results[index] = keys.get(index) != null;
+            }
+            log.debug(
+                    "Redis bloom filter not authoritative, allow batch without warming local: cacheName={}, keys={}",
+                    cacheName,
+                    missKeys.size());
+            return results;
+        }
+
+        boolean[] remoteResults = remoteFilter.mightContainAll(cacheName, missKeys);
+        List<String> warmKeys = new ArrayList<>();
+        for (int i = 0; i < remoteResults.length; i++) {
+            if (remoteResults[i]) {
+                results[missIndexes.get(i)] = true;
+                warmKeys.add(missKeys.get(i));
+            }
+        }
+        if (!warmKeys.isEmpty()) {
+            localFilter.addAll(cacheName, warmKeys);
+        }
+        log.debug(
+                "Bloom batch check: cacheName={}, keys={}, localMisses={}, remoteHits={}",
+                cacheName,
+                keys.size(),
+                missKeys.size(),
+                warmKeys.size());
+        return results;
+    }
+
+    @Override
+    public boolean isAuthoritative(String cacheName) {
+        return remoteFilter.isAuthoritative(cacheName);
+    }
+
     @Override
     public void clear(String cacheName) {
         localFilter.clear(cacheName);
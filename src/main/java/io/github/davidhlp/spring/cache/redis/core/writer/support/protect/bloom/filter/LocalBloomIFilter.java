@@ -7,12 +7,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * JVM 内存级别的布隆过滤器，用于降低 Redis 查询的频率。
+ *
+ * <p>位数组基于 {@link AtomicLongArray}：置位使用 CAS 按位或，检查只做 volatile 读，读写互不阻塞。
  */
 @Slf4j
 @Component("localBloomFilter")
@@ -21,25 +23,28 @@ public class LocalBloomIFilter implements BloomIFilter {
 
     private final BloomFilterConfig config;
     private final BloomHashStrategy hashStrategy;
-    private final ConcurrentMap<String, BitSet> localFilters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLongArray> localFilters = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> positionBuffer =
+            ThreadLocal.withInitial(this::newPositionBuffer);
 
     @Override
     public void add(String cacheName, String key) {
         if (cacheName == null || key == null) {
             return;
         }
-        BitSet bitSet = bitSetFor(cacheName);
-        int[] positions = hashStrategy.positionsFor(key, config);
-        synchronized (bitSet) {
-            for (int position : positions) {
-                bitSet.set(position);
-            }
+        AtomicLongArray words = wordsFor(cacheName);
+        int[] positions = positionBuffer.get();
+        int count = hashStrategy.positionsFor(key, config, positions);
+        for (int i = 0; i < count; i++) {
+            setBit(words, positions[i]);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "Local bloom add: cacheName={}, key={}, positions={}",
+                    cacheName,
+                    key,
+                    Arrays.toString(Arrays.copyOf(positions, count)));
         }
-        log.debug(
-                "Local bloom add: cacheName={}, key={}, positions={}",
-                cacheName,
-                key,
-                Arrays.toString(positions));
     }
 
     @Override
@@ -47,21 +52,21 @@ public class LocalBloomIFilter implements BloomIFilter {
         if (cacheName == null || key == null) {
             return false;
         }
-        BitSet bitSet = localFilters.get(cacheName);
-        if (bitSet == null) {
+        AtomicLongArray words = localFilters.get(cacheName);
+        if (words == null) {
             return false;
         }
-        int[] positions = hashStrategy.positionsFor(key, config);
-        synchronized (bitSet) {
-            for (int position : positions) {
-                if (!bitSet.get(position)) {
-                    log.debug(
-                            "Local bloom miss: cacheName={}, key={}, position={}",
-                            cacheName,
-                            key,
-                            position);
-                    return false;
-                }
+        int[] positions = positionBuffer.get();
+        int count = hashStrategy.positionsFor(key, config, positions);
+        for (int i = 0; i < count; i++) {
+            int position = positions[i];
+            if ((words.get(position >>> 6) & (1L << position)) == 0) {
+                log.debug(
+                        "Local bloom miss: cacheName={}, key={}, position={}",
+                        cacheName,
+                        key,
+                        position);
+                return false;
             }
         }
         return true;
@@ -74,7 +79,26 @@ public class LocalBloomIFilter implements BloomIFilter {
         }
     }
 
-    private BitSet bitSetFor(String cacheName) {
-        return localFilters.computeIfAbsent(cacheName, name -> new BitSet(config.getBitSize()));
+    private AtomicLongArray wordsFor(String cacheName) {
+        return localFilters.computeIfAbsent(
+                cacheName, name -> new AtomicLongArray((config.getBitSize() + 63) >>> 6));
+    }
+
+    /** 字段初始化时 config 尚未赋值，缓冲区在线程首次使用时再按配置创建 */
+    private int[] newPositionBuffer() {
+        return new int[config.getHashFunctions()];
+    }
+
+    /** CAS 按位或置位，位已存在时不产生写操作 */
+    private static void setBit(AtomicLongArray words, int position) {
+        int index = position >>> 6;
+        long mask = 1L << position;
+        long current = words.get(index);
+        while ((current & mask) == 0) {
+            if (words.compareAndSet(index, current, current | mask)) {
+                return;
+            }
+            current = words.get(index);
+        }
     }
 }
@@ -2,44 +2,124 @@ package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.
 
 import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.BloomFilterConfig;
 import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.strategy.BloomHashStrategy;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
- * 基于Redis的布隆过滤器实现。
+ * 基于 Redis 位图的布隆过滤器实现。
+ *
+ * <p>每个缓存对应一个位图键（{@code prefix + "bitmap:" + cacheName}），单键的添加/检查以及批量操作都只需一次
+ * pipeline 往返（SETBIT / GETBIT）。连接工厂支持响应式 API（Lettuce）时，异步读写通过响应式位图命令完成，不阻塞调用线程。
+ *
+ * <p>旧版本以 Hash（{@code prefix + cacheName}，字段为位位置）存储过滤器，位位置由消息摘要策略计算。每个缓存首次使用时：
+ * 当前策略与旧版一致则将旧 Hash 中的位迁移到位图；否则旧位无法复用，删除旧键并写入放行标记
+ * （{@code prefix + "fail-open:" + cacheName}），该缓存的检查一律放行，直至执行 {@link #clear(String)}。
+ * 迁移在专用线程上执行，完成前检查同样放行，避免升级后位图为空或位位置不一致导致已有缓存键被拒绝；
+ * 放行期间 {@link #isAuthoritative(String)} 返回 false。
  */
 @Slf4j
 @Component("redisBloomFilter")
 @RequiredArgsConstructor
 public class RedisBloomIFilter implements BloomIFilter {
 
-    private final HashOperations<String, String, String> hashOperations;
+    private static final String BITMAP_SEGMENT = "bitmap:";
+    private static final String FAIL_OPEN_SEGMENT = "fail-open:";
+    private static final byte[] FAIL_OPEN_MARKER = "1".getBytes(StandardCharsets.UTF_8);
+
+    /** 处于放行状态的缓存重新检查放行标记的间隔，其他节点执行清理后本节点据此恢复过滤 */
+    private static final long FAIL_OPEN_RECHECK_MILLIS = 30_000L;
+
+    /** 迁移失败后重试的间隔 */
+    private static final long MIGRATION_RETRY_MILLIS = 1_000L;
+
+    /** 迁移旧版 Hash 过滤器时每个 pipeline 写入的位数 */
+    private static final int MIGRATION_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
     private final BloomFilterConfig config;
     private final BloomHashStrategy hashStrategy;
+    private final ThreadLocal<int[]> positionBuffer =
+            ThreadLocal.withInitial(this::newPositionBuffer);
+
+    /** 已确认不存在待迁移旧版过滤器的缓存 */
+    private final Set<String> migratedCaches = ConcurrentHashMap.newKeySet();
+
+    /** 正在迁移旧版过滤器的缓存 */
+    private final Set<String> migratingCaches = ConcurrentHashMap.newKeySet();
+
+    /** 尚不能用于过滤（旧版过滤器无法复用或迁移失败）的缓存，值为下次尝试迁移的时间戳 */
+    private final Map<String, Long> nextMigrationAttempt = new ConcurrentHashMap<>();
+
+    /** 执行旧版过滤器迁移的专用线程，迁移不占用请求线程与公共线程池 */
+    private final ExecutorService migrationExecutor =
+            Executors.newSingleThreadExecutor(
+                    r -> {
+                        Thread thread = new Thread(r, "bloom-filter-migration");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
 
     @Override
     public void add(String cacheName, String key) {
         if (cacheName == null || key == null) {
             return;
         }
+        addAll(cacheName, List.of(key));
+    }
 
-        String bloomKey = bloomKey(cacheName);
+    @Override
+    public void addAll(String cacheName, List<String> keys) {
+        if (cacheName == null || keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        byte[] bloomKey = bloomKey(cacheName);
         try {
-            int[] positions = hashStrategy.positionsFor(key, config);
-            for (int position : positions) {
-                hashOperations.put(bloomKey, Integer.toString(position), "1");
-            }
-            log.debug(
-                    "Bloom filter add: cacheName={}, key={}, positions={}",
-                    cacheName,
-                    key,
-                    Arrays.toString(positions));
+            int[] positions = positionBuffer.get();
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                for (String key : keys) {
+                                    if (key == null) {
+                                        continue;
+                                    }
+                                    int count = hashStrategy.positionsFor(key, config, positions);
+                                    for (int i = 0; i < count; i++) {
+                                        connection
+                                                .stringCommands()
+                                                .setBit(bloomKey, positions[i], true);
+                                    }
+                                }
+                                return null;
+                            });
+            log.debug("Bloom filter add: cacheName={}, keys={}", cacheName, keys.size());
         } catch (Exception e) {
-            log.error("Bloom filter add failed: cacheName={}, key={}", cacheName, key, e);
+            log.error("Bloom filter add failed: cacheName={}, keys={}", cacheName, keys.size(), e);
         }
     }
 
@@ -48,26 +128,158 @@ public class RedisBloomIFilter implements BloomIFilter {
         if (cacheName == null || key == null) {
             return false;
         }
+        boolean hit = mightContainAll(cacheName, List.of(key))[0];
+        if (hit) {
+            log.debug("Bloom filter hit (might exist): cacheName={}, key={}", cacheName, key);
+        } else {
+            log.debug(
+                    "Bloom filter miss (definitely does not exist): cacheName={}, key={}",
+                    cacheName,
+                    key);
+        }
+        return hit;
+    }
+
+    @Override
+    public boolean[] mightContainAll(String cacheName, List<String> keys) {
+        boolean[] results = new boolean[keys == null ? 0 : keys.size()];
+        if (cacheName == null || results.length == 0) {
+            return results;
+        }
+
+        if (!ensureMigrated(cacheName)) {
+            for (int k = 0; k < results.length; k++) {
+                results[k] = keys.get(k) != null;
+            }
+            return results;
+        }
 
-        String bloomKey = bloomKey(cacheName);
+        byte[] bloomKey = bloomKey(cacheName);
+        int hashFunctions = config.getHashFunctions();
         try {
-            for (int position : hashStrategy.positionsFor(key, config)) {
-                Object value = hashOperations.get(bloomKey, Integer.toString(position));
-                if (value == null) {
-                    log.debug(
-                            "Bloom filter miss (definitely does not exist): cacheName={}, key={}",
-                            cacheName,
-                            key);
-                    return false;
+            int[] positions = positionBuffer.get();
+            List<Object> bits =
+                    redisTemplate.executePipelined(
+                            (RedisCallback<Object>)
+                                    connection -> {
+                                        for (String key : keys) {
+                                            int count =
+                                                    key == null
+                                                            ? 0
+                                                            : hashStrategy.positionsFor(
+                                                                    key, config, positions);
+                                            for (int i = 0; i < hashFunctions; i++) {
+                                                // 空键也占位，保证结果按 hashFunctions 对齐
+                                                long offset = i < count ? positions[i] : 0;
+                                                connection.stringCommands().getBit(bloomKey, offset);
+                                            }
+                                        }
+                                        return null;
+                                    });
+
+            for (int k = 0; k < results.length; k++) {
+                if (keys.get(k) == null) {
+                    continue;
                 }
+                boolean all = true;
+                for (int i = 0; i < hashFunctions && all; i++) {
+                    all = Boolean.TRUE.equals(bits.get(k * hashFunctions + i));
+                }
+                results[k] = all;
             }
-
-            log.debug("Bloom filter hit (might exist): cacheName={}, key={}", cacheName, key);
-            return true;
+            return results;
         } catch (Exception e) {
-            log.error("Bloom filter check failed: cacheName={}, key={}", cacheName, key, e);
-            return true;
+            log.error("Bloom filter check failed: cacheName={}, keys={}", cacheName, keys.size(), e);
+            for (int k = 0; k < results.length; k++) {
+                results[k] = keys.get(k) != null;
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> addAsync(String cacheName, String key) {
+        ReactiveRedisConnectionFactory factory = reactiveConnectionFactory();
+        if (factory == null || cacheName == null || key == null) {
+            return BloomIFilter.super.addAsync(cacheName, key);
         }
+        ByteBuffer bloomKey = ByteBuffer.wrap(bloomKey(cacheName));
+        int[] positions = new int[config.getHashFunctions()];
+        int count = hashStrategy.positionsFor(key, config, positions);
+
+        return Mono.usingWhen(
+                        Mono.fromSupplier(factory::getReactiveConnection),
+                        connection ->
+                                Flux.range(0, count)
+                                        .flatMap(
+                                                i ->
+                                                        connection
+                                                                .stringCommands()
+                                                                .setBit(
+                                                                        bloomKey.duplicate(),
+                                                                        positions[i],
+                                                                        true))
+                                        .then(),
+                        ReactiveRedisConnection::closeLater)
+                .doOnSuccess(
+                        ignored ->
+                                log.debug(
+                                        "Bloom filter add: cacheName={}, keys=1", cacheName))
+                .onErrorResume(
+                        e -> {
+                            log.error(
+                                    "Bloom filter add failed: cacheName={}, keys=1", cacheName, e);
+                            return Mono.empty();
+                        })
+                .toFuture();
+    }
+
+    @Override
+    public CompletionStage<Boolean> mightContainAsync(String cacheName, String key) {
+        ReactiveRedisConnectionFactory factory = reactiveConnectionFactory();
+        if (factory == null || cacheName == null || key == null) {
+            return BloomIFilter.super.mightContainAsync(cacheName, key);
+        }
+        if (!ensureMigrated(cacheName)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        ByteBuffer bloomKey = ByteBuffer.wrap(bloomKey(cacheName));
+        int[] positions = new int[config.getHashFunctions()];
+        int count = hashStrategy.positionsFor(key, config, positions);
+
+        return Mono.usingWhen(
+                        Mono.fromSupplier(factory::getReactiveConnection),
+                        connection ->
+                                Flux.range(0, count)
+                                        .flatMap(
+                                                i ->
+                                                        connection
+                                                                .stringCommands()
+                                                                .getBit(
+                                                                        bloomKey.duplicate(),
+                                                                        positions[i]))
+                                        .all(Boolean.TRUE::equals),
+                        ReactiveRedisConnection::closeLater)
+                .doOnNext(
+                        hit ->
+                                log.debug(
+                                        "Bloom filter {} on async check: cacheName={}, key={}",
+                                        hit ? "hit" : "miss",
+                                        cacheName,
+                                        key))
+                .onErrorResume(
+                        e -> {
+                            log.error(
+                                    "Bloom filter check failed: cacheName={}, keys=1", cacheName, e);
+                            return Mono.just(true);
+                        })
+                .defaultIfEmpty(true)
+                .toFuture();
+    }
+
+    @Override
+    public boolean isAuthoritative(String cacheName) {
+        return cacheName == null || ensureMigrated(cacheName);
     }
 
     @Override
@@ -76,16 +288,176 @@ public class RedisBloomIFilter implements BloomIFilter {
             return;
         }
 
-        String bloomKey = bloomKey(cacheName);
         try {
-            hashOperations.getOperations().delete(bloomKey);
+            // 同时删除旧版基于 Hash 存储的过滤器键与放行标记
+            redisTemplate.delete(
+                    Arrays.asList(
+                            config.getKeyPrefix() + BITMAP_SEGMENT + cacheName,
+                            legacyKey(cacheName),
+                            failOpenKey(cacheName)));
+            nextMigrationAttempt.remove(cacheName);
+            migratedCaches.add(cacheName);
             log.debug("Bloom filter deleted: cacheName={}", cacheName);
         } catch (Exception e) {
             log.error("Bloom filter delete failed: cacheName={}", cacheName, e);
         }
     }
 
-    private String bloomKey(String cacheName) {
+    /**
+     * 判断指定缓存的位图是否可用于过滤；尚未确认时将迁移提交到专用线程，同一缓存同时只有一个迁移任务
+     *
+     * @param cacheName 缓存名称
+     * @return 已迁移或无需迁移返回 true；迁移未完成、迁移失败或旧版过滤器无法复用返回 false，此时调用方应放行
+     */
+    private boolean ensureMigrated(String cacheName) {
+        if (migratedCaches.contains(cacheName)) {
+            return true;
+        }
+        Long nextAttemptAt = nextMigrationAttempt.get(cacheName);
+        if (nextAttemptAt != null && System.currentTimeMillis() < nextAttemptAt) {
+            return false;
+        }
+        if (migratingCaches.add(cacheName)) {
+            try {
+                migrationExecutor.execute(() -> migrate(cacheName));
+            } catch (RejectedExecutionException e) {
+                migratingCaches.remove(cacheName);
+                log.debug("Bloom filter migration rejected, executor shut down: cacheName={}", cacheName);
+            }
+        }
+        return false;
+    }
+
+    private void migrate(String cacheName) {
+        try {
+            if (migrateLegacyFilter(cacheName)) {
+                nextMigrationAttempt.remove(cacheName);
+                migratedCaches.add(cacheName);
+            } else {
+                nextMigrationAttempt.put(
+                        cacheName, System.currentTimeMillis() + FAIL_OPEN_RECHECK_MILLIS);
+            }
+        } catch (Exception e) {
+            log.warn(
+                    "Legacy bloom filter migration failed, allowing all keys until it succeeds: cacheName={}",
+                    cacheName,
+                    e);
+            nextMigrationAttempt.put(cacheName, System.currentTimeMillis() + MIGRATION_RETRY_MILLIS);
+        } finally {
+            migratingCaches.remove(cacheName);
+        }
+    }
+
+    /**
+     * 处理旧版 Hash 过滤器。位位置与当前策略一致时按 HSCAN 批次将其中的位写入位图后删除旧键，SETBIT 幂等，多个节点同时迁移也不会丢失位；
+     * 不一致时先写入放行标记再删除旧键，保证其他节点在任意时刻都能看到旧键或放行标记之一。
+     *
+     * @param cacheName 缓存名称
+     * @return 位图可用于过滤返回 true；存在放行标记返回 false
+     */
+    private boolean migrateLegacyFilter(String cacheName) {
+        byte[] legacyKey = legacyKey(cacheName).getBytes(StandardCharsets.UTF_8);
+        byte[] failOpenKey = failOpenKey(cacheName).getBytes(StandardCharsets.UTF_8);
+        byte[] bloomKey = bloomKey(cacheName);
+        Boolean usable =
+                redisTemplate.execute(
+                        (RedisCallback<Boolean>)
+                                connection -> {
+                                    if (Boolean.TRUE.equals(
+                                            connection.keyCommands().exists(failOpenKey))) {
+                                        return false;
+                                    }
+                                    if (!Boolean.TRUE.equals(
+                                            connection.keyCommands().exists(legacyKey))) {
+                                        return true;
+                                    }
+                                    if (!hashStrategy.matchesLegacyPositions()) {
+                                        connection.stringCommands().set(failOpenKey, FAIL_OPEN_MARKER);
+                                        connection.keyCommands().del(legacyKey);
+                                        log.warn(
+                                                "Legacy bloom filter was built with a different hash strategy and was dropped, "
+                                                        + "allowing all keys until the cache is cleared: cacheName={}",
+                                                cacheName);
+                                        return false;
+                                    }
+
+                                    long[] batch = new long[MIGRATION_BATCH_SIZE];
+                                    int size = 0;
+                                    long migrated = 0;
+                                    ScanOptions options =
+                                            ScanOptions.scanOptions()
+                                                    .count(MIGRATION_BATCH_SIZE)
+                                                    .build();
+                                    try (Cursor<Map.Entry<byte[], byte[]>> cursor =
+                                            connection.hashCommands().hScan(legacyKey, options)) {
+                                        while (cursor.hasNext()) {
+                                            batch[size++] =
+                                                    Long.parseLong(
+                                                            new String(
+                                                                    cursor.next().getKey(),
+                                                                    StandardCharsets.UTF_8));
+                                            if (size == batch.length) {
+                                                setBits(bloomKey, batch, size);
+                                                migrated += size;
+                                                size = 0;
+                                            }
+                                        }
+                                    }
+                                    setBits(bloomKey, batch, size);
+                                    migrated += size;
+                                    connection.keyCommands().del(legacyKey);
+                                    log.info(
+                                            "Migrated legacy bloom filter to bitmap: cacheName={}, bits={}",
+                                            cacheName,
+                                            migrated);
+                                    return true;
+                                });
+        return Boolean.TRUE.equals(usable);
+    }
+
+    /** 以一次 pipeline 写入一批位，pipeline 使用独立连接，不影响进行中的 HSCAN */
+    private void setBits(byte[] bloomKey, long[] positions, int size) {
+        if (size == 0) {
+            return;
+        }
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (int i = 0; i < size; i++) {
+                                connection.stringCommands().setBit(bloomKey, positions[i], true);
+                            }
+                            return null;
+                        });
+    }
+
+    /** 关闭迁移线程，未完成的迁移在下次启动后重新执行 */
+    @PreDestroy
+    public void shutdown() {
+        migrationExecutor.shutdownNow();
+    }
+
+    /** 字段初始化时 config 尚未赋值，缓冲区在线程首次使用时再按配置创建 */
+    private int[] newPositionBuffer() {
+        return new int[config.getHashFunctions()];
+    }
+
+    private String failOpenKey(String cacheName) {
+        return config.getKeyPrefix() + FAIL_OPEN_SEGMENT + cacheName;
+    }
+
+    private String legacyKey(String cacheName) {
         return config.getKeyPrefix() + cacheName;
     }
+
+    @Nullable
+    private ReactiveRedisConnectionFactory reactiveConnectionFactory() {
+        return redisTemplate.getConnectionFactory() instanceof ReactiveRedisConnectionFactory factory
+                ? factory
+                : null;
+    }
+
+    private byte[] bloomKey(String cacheName) {
+        return (config.getKeyPrefix() + BITMAP_SEGMENT + cacheName)
+                .getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -8,4 +8,27 @@ import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.B
 public interface BloomHashStrategy {
 
     int[] positionsFor(String key, BloomFilterConfig config);
+
+    /**
+     * 将键的位位置写入调用方提供的缓冲区，热点路径上可复用缓冲区避免分配。
+     *
+     * @param key 键
+     * @param config 布隆过滤器配置
+     * @param positions 输出缓冲区，长度不小于 {@link BloomFilterConfig#getHashFunctions()}
+     * @return 写入的位置数量
+     */
+    default int positionsFor(String key, BloomFilterConfig config, int[] positions) {
+        int[] computed = positionsFor(key, config);
+        System.arraycopy(computed, 0, positions, 0, computed.length);
+        return computed.length;
+    }
+
+    /**
+     * 计算出的位位置是否与旧版 Hash 过滤器一致。旧版只有消息摘要策略，其他策略迁移旧数据会检查错误的位。
+     *
+     * @return 可直接复用旧版过滤器中的位时返回 true
+     */
+    default boolean matchesLegacyPositions() {
+        return false;
+    }
 }
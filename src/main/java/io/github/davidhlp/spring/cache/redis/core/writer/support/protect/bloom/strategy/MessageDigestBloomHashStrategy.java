@@ -2,6 +2,7 @@ package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.
 
 import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.BloomFilterConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -10,10 +11,14 @@ import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
 /**
- * 基于消息摘要的双重哈希策略。
+ * 基于消息摘要的双重哈希策略，需通过 {@code spring.resiCache.bloom.hash-strategy=message-digest} 显式启用。
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(
+        prefix = "spring.resiCache.bloom",
+        name = "hash-strategy",
+        havingValue = "message-digest")
 public class MessageDigestBloomHashStrategy implements BloomHashStrategy {
 
     private static final List<String> BASE_ALGORITHMS = List.of("MD5", "SHA-256");
@@ -38,6 +43,11 @@ public class MessageDigestBloomHashStrategy implements BloomHashStrategy {
         return positions;
     }
 
+    @Override
+    public boolean matchesLegacyPositions() {
+        return true;
+    }
+
     private long digest(String key, String algorithm) {
         try {
             MessageDigest digest = MessageDigest.getInstance(algorithm);
@@ -0,0 +1,119 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.strategy;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.BloomFilterConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 基于 MurmurHash3 x64 128 位的双重哈希策略。
+ *
+ * <p>直接对字符串的 UTF-16 字符做哈希（每个字符视为 2 字节小端），不做编码也不产生中间数组；
+ * 两个 64 位结果按 Kirsch–Mitzenmacher 方式组合出 k 个位位置。
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "spring.resiCache.bloom",
+        name = "hash-strategy",
+        havingValue = "murmur3",
+        matchIfMissing = true)
+public class Murmur3BloomHashStrategy implements BloomHashStrategy {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    @Override
+    public int[] positionsFor(String key, BloomFilterConfig config) {
+        if (key == null) {
+            return new int[0];
+        }
+        int[] positions = new int[config.getHashFunctions()];
+        positionsFor(key, config, positions);
+        return positions;
+    }
+
+    @Override
+    public int positionsFor(String key, BloomFilterConfig config, int[] positions) {
+        if (key == null) {
+            return 0;
+        }
+
+        int length = key.length();
+        long h1 = 0;
+        long h2 = 0;
+
+        int i = 0;
+        for (; i + 8 <= length; i += 8) {
+            long k1 = packChars(key, i, 4);
+            long k2 = packChars(key, i + 4, 4);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int remaining = length - i;
+        if (remaining > 4) {
+            h2 ^= mixK2(packChars(key, i + 4, remaining - 4));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(packChars(key, i, Math.min(remaining, 4)));
+        }
+
+        long byteLength = (long) length * 2;
+        h1 ^= byteLength;
+        h2 ^= byteLength;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+
+        int hashFunctions = config.getHashFunctions();
+        int bitSize = config.getBitSize();
+        long combined = h1;
+        for (int n = 0; n < hashFunctions; n++) {
+            positions[n] = (int) ((combined & Long.MAX_VALUE) % bitSize);
+            combined += h2;
+        }
+        return hashFunctions;
+    }
+
+    /** 将从 offset 开始的 count 个字符按小端打包为 long（每个字符 16 位） */
+    private static long packChars(String key, int offset, int count) {
+        long packed = 0;
+        for (int j = 0; j < count; j++) {
+            packed |= (long) key.charAt(offset + j) << (j << 4);
+        }
+        return packed;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -74,6 +74,27 @@ public class DefaultTtlPolicy implements TtlPolicy {
         return usedRatio >= (1 - threshold);
     }
 
+    /**
+     * 按 XFetch 算法判断是否提前刷新缓存项
+     * <p>
+     * 当 {@code computeMillis * beta * -ln(rand)} 不小于剩余存活时间时刷新，rand 取 (0, 1] 均匀分布。
+     * 剩余时间越短、重新计算越慢，触发概率越高，多个调用方因此在不同时刻触发刷新。
+     * </p>
+     *
+     * @param remainingMillis 剩余存活时间（毫秒），负数表示永久
+     * @param computeMillis 上次重新计算耗时（毫秒）
+     * @param beta 提前系数
+     * @return 如果应该提前刷新返回true，否则返回false
+     */
+    @Override
+    public boolean shouldProbabilisticRefresh(long remainingMillis, long computeMillis, double beta) {
+        if (remainingMillis < 0 || computeMillis <= 0 || beta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return computeMillis * beta * -Math.log(random) >= remainingMillis;
+    }
+
     /**
      * 获取当前时间毫秒数
      *
@@ -12,4 +12,6 @@ public interface TtlPolicy {
     long calculateFinalTtl(Long baseTtl, boolean randomTtl, float variance);
 
     boolean shouldPreRefresh(long createdTime, long ttlSeconds, double threshold);
+
+    boolean shouldProbabilisticRefresh(long remainingMillis, long computeMillis, double beta);
 }
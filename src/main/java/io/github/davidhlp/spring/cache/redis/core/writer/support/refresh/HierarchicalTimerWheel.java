@@ -0,0 +1,196 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分层时间轮，按到期时间组织定时项。
+ * <p>
+ * 共 {@value #LEVELS} 层，每层 {@value #SLOTS} 个槽，第 n 层每个槽覆盖 {@code 64^n} 个 tick。定时项按距到期的
+ * tick 数放入对应层的槽中，每个槽是一个双向链表，因此添加与取消均为 O(1)；tick 推进到高层槽的边界时，
+ * 该槽中的定时项被重新分配到更低层，最终在第 0 层到期。超出最大跨度的定时项暂存于最高层，随推进逐步下沉。
+ * </p>
+ * <p>
+ * 此类不是线程安全的，由调用方负责同步。
+ * </p>
+ *
+ * @param <T> 定时项携带的数据类型
+ */
+final class HierarchicalTimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Node<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.originMillis = nowMillis;
+        this.wheels = new Node[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = Node.sentinel();
+            }
+        }
+    }
+
+    /**
+     * 添加定时项，已过期的时间在下一个 tick 到期
+     *
+     * @param item 定时项数据
+     * @param deadlineMillis 到期时间戳（毫秒）
+     * @return 定时项句柄，用于取消
+     */
+    Node<T> schedule(T item, long deadlineMillis) {
+        long expireTick = Math.max(currentTick + 1, toTick(deadlineMillis));
+        Node<T> node = new Node<>(item, expireTick);
+        place(node);
+        size++;
+        return node;
+    }
+
+    /**
+     * 取消定时项，已到期或已取消时无效果
+     *
+     * @param node 定时项句柄
+     */
+    void cancel(Node<T> node) {
+        if (node.isLinked()) {
+            node.unlink();
+            size--;
+        }
+    }
+
+    /**
+     * 推进到给定时间，返回期间到期的定时项数据
+     *
+     * @param nowMillis 当前时间戳（毫秒）
+     * @return 到期的定时项数据
+     */
+    List<T> advance(long nowMillis) {
+        long targetTick = toTick(nowMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            Node<T> head = wheels[0][(int) (currentTick & SLOT_MASK)];
+            for (Node<T> node = head.detachAll(); node != head; ) {
+                Node<T> next = node.next;
+                node.clearLinks();
+                if (node.expireTick <= currentTick) {
+                    size--;
+                    expired.add(node.item);
+                } else {
+                    place(node);
+                }
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 当前定时项数量
+     *
+     * @return 未到期且未取消的定时项数量
+     */
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        Node<T> head = wheels[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        // 先摘下整个槽再重新分配，超出跨度的定时项可能回到同一个槽
+        for (Node<T> node = head.detachAll(); node != head; ) {
+            Node<T> next = node.next;
+            node.clearLinks();
+            place(node);
+            node = next;
+        }
+    }
+
+    private void place(Node<T> node) {
+        long delta = node.expireTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                int slot = (int) ((node.expireTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                wheels[level][slot].append(node);
+                return;
+            }
+        }
+        // 超出最大跨度：放入最高层当前槽，下一轮经过时重新分配
+        int top = LEVELS - 1;
+        int slot = (int) ((currentTick >>> (SLOT_BITS * top)) & SLOT_MASK);
+        wheels[top][slot].append(node);
+    }
+
+    private long toTick(long millis) {
+        return Math.max(0, millis - originMillis) / tickMillis;
+    }
+
+    /**
+     * 时间轮中的定时项，同时作为双向链表节点
+     */
+    static final class Node<T> {
+        private final T item;
+        private final long expireTick;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(T item, long expireTick) {
+            this.item = item;
+            this.expireTick = expireTick;
+        }
+
+        private static <T> Node<T> sentinel() {
+            Node<T> head = new Node<>(null, Long.MAX_VALUE);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        private void append(Node<T> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private boolean isLinked() {
+            return prev != null;
+        }
+
+        /**
+         * 清空以当前节点为哨兵的链表，返回原链表的第一个节点；遍历以回到哨兵结束
+         */
+        private Node<T> detachAll() {
+            Node<T> first = next;
+            next = this;
+            prev = this;
+            return first;
+        }
+
+        private void clearLinks() {
+            prev = null;
+            next = null;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
 
+import java.util.List;
+
 /**
  * 协调异步预刷新执行并跟踪正在进行的任务。
  */
@@ -13,6 +15,21 @@ public interface PreRefreshExecutor {
      */
 	void submit(String key, Runnable task);
 
+    /**
+     * 提交一个预刷新任务到指定缓存的隔离舱
+     * <p>
+     * 默认实现忽略缓存名称与热度，直接委托给 {@link #submit(String, Runnable)}。
+     * </p>
+     *
+     * @param cacheName 缓存名称
+     * @param key       任务关联的键
+     * @param hotness   键的热度，越大越优先执行
+     * @param task      要执行的任务
+     */
+    default void submit(String cacheName, String key, long hotness, Runnable task) {
+        submit(key, task);
+    }
+
     /**
      * 取消指定键的预刷新任务
      * @param key 要取消的任务关联的键
@@ -25,6 +42,14 @@ public interface PreRefreshExecutor {
 	 */
     String getStats();
 
+    /**
+     * 获取各缓存隔离舱的统计快照
+     * @return 统计快照列表，不支持隔离舱的实现返回空列表
+	 */
+    default List<PreRefreshStats> getBulkheadStats() {
+        return List.of();
+    }
+
     /**
      * 获取当前活跃的任务数量
      * @return 正在执行的任务数量
@@ -0,0 +1,69 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 预刷新执行器（按缓存隔离的隔离舱）的配置持有者。
+ * <p>
+ * 并发数与队列容量可按缓存覆盖：{@code spring.resiCache.pre-refresh.caches.<cacheName>.concurrency}、
+ * {@code spring.resiCache.pre-refresh.caches.<cacheName>.queue-capacity}。
+ * </p>
+ */
+@Getter
+@Component
+public class PreRefreshExecutorConfig {
+
+	private static final String CACHE_PROPERTY_PREFIX = "spring.resiCache.pre-refresh.caches.";
+
+	@Getter(AccessLevel.NONE)
+	private final Environment environment;
+	private final int concurrency;
+	private final int queueCapacity;
+	private final PreRefreshOverflowPolicy overflowPolicy;
+	private final long deferDelayMillis;
+	private final int maxDeferAttempts;
+	private final boolean virtualThreads;
+
+	public PreRefreshExecutorConfig(
+			Environment environment,
+			@Value("${spring.resiCache.pre-refresh.concurrency:2}") int concurrency,
+			@Value("${spring.resiCache.pre-refresh.queue-capacity:100}") int queueCapacity,
+			@Value("${spring.resiCache.pre-refresh.overflow-policy:DROP}") PreRefreshOverflowPolicy overflowPolicy,
+			@Value("${spring.resiCache.pre-refresh.defer-delay-ms:500}") long deferDelayMillis,
+			@Value("${spring.resiCache.pre-refresh.max-defer-attempts:3}") int maxDeferAttempts,
+			@Value("${spring.resiCache.pre-refresh.virtual-threads:false}") boolean virtualThreads) {
+		this.environment = environment;
+		this.concurrency = Math.max(1, concurrency);
+		this.queueCapacity = Math.max(0, queueCapacity);
+		this.overflowPolicy = overflowPolicy;
+		this.deferDelayMillis = Math.max(10, deferDelayMillis);
+		this.maxDeferAttempts = Math.max(0, maxDeferAttempts);
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * 获取指定缓存的最大并发刷新数
+	 *
+	 * @param cacheName 缓存名称
+	 * @return 并发数，未单独配置时使用全局值
+	 */
+	public int concurrencyFor(String cacheName) {
+		Integer value = environment.getProperty(CACHE_PROPERTY_PREFIX + cacheName + ".concurrency", Integer.class);
+		return value != null ? Math.max(1, value) : concurrency;
+	}
+
+	/**
+	 * 获取指定缓存的排队容量
+	 *
+	 * @param cacheName 缓存名称
+	 * @return 队列容量，未单独配置时使用全局值
+	 */
+	public int queueCapacityFor(String cacheName) {
+		Integer value = environment.getProperty(CACHE_PROPERTY_PREFIX + cacheName + ".queue-capacity", Integer.class);
+		return value != null ? Math.max(0, value) : queueCapacity;
+	}
+}
@@ -0,0 +1,16 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+/**
+ * 异步预刷新使用的加载器，重新调用被缓存的方法并返回序列化后的缓存值。
+ */
+@FunctionalInterface
+public interface PreRefreshLoader {
+
+    /**
+     * 重新加载缓存值
+     *
+     * @return 经缓存序列化器处理后的值字节
+     * @throws Exception 方法调用或序列化失败时抛出
+     */
+    byte[] reload() throws Exception;
+}
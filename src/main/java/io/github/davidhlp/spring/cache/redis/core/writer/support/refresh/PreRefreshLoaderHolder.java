@@ -0,0 +1,92 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 在调用线程上传递异步预刷新所需的加载器。
+ * <p>
+ * 拦截器在方法调用期间绑定可重复执行的方法调用，缓存在读取时将其包装为 {@link PreRefreshLoader}
+ * 并绑定到读取过程；写入器在命中需要异步预刷新的键时取出加载器，提交到后台执行。
+ * </p>
+ */
+public final class PreRefreshLoaderHolder {
+
+    private static final ThreadLocal<Callable<Object>> INVOCATION = new ThreadLocal<>();
+    private static final ThreadLocal<PreRefreshLoader> LOADER = new ThreadLocal<>();
+
+    private PreRefreshLoaderHolder() {}
+
+    /**
+     * 绑定当前方法调用的重新执行入口
+     *
+     * @param invocation 重新执行被缓存方法的调用
+     * @return 之前绑定的调用，供 {@link #restoreInvocation(Callable)} 恢复
+     */
+    @Nullable
+    public static Callable<Object> bindInvocation(Callable<Object> invocation) {
+        Callable<Object> previous = INVOCATION.get();
+        INVOCATION.set(invocation);
+        return previous;
+    }
+
+    /**
+     * 恢复之前绑定的方法调用
+     *
+     * @param previous 之前绑定的调用，为 null 时清除
+     */
+    public static void restoreInvocation(@Nullable Callable<Object> previous) {
+        if (previous == null) {
+            INVOCATION.remove();
+        } else {
+            INVOCATION.set(previous);
+        }
+    }
+
+    /**
+     * 获取当前线程绑定的方法调用
+     *
+     * @return 方法调用，未绑定时返回 null
+     */
+    @Nullable
+    public static Callable<Object> currentInvocation() {
+        return INVOCATION.get();
+    }
+
+    /**
+     * 绑定当前缓存读取的加载器
+     *
+     * @param loader 加载器
+     * @return 之前绑定的加载器，供 {@link #restoreLoader(PreRefreshLoader)} 恢复
+     */
+    @Nullable
+    public static PreRefreshLoader bindLoader(PreRefreshLoader loader) {
+        PreRefreshLoader previous = LOADER.get();
+        LOADER.set(loader);
+        return previous;
+    }
+
+    /**
+     * 恢复之前绑定的加载器
+     *
+     * @param previous 之前绑定的加载器，为 null 时清除
+     */
+    public static void restoreLoader(@Nullable PreRefreshLoader previous) {
+        if (previous == null) {
+            LOADER.remove();
+        } else {
+            LOADER.set(previous);
+        }
+    }
+
+    /**
+     * 获取当前线程绑定的加载器
+     *
+     * @return 加载器，未绑定时返回 null
+     */
+    @Nullable
+    public static PreRefreshLoader currentLoader() {
+        return LOADER.get();
+    }
+}
@@ -3,5 +3,10 @@ package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
 /** 预刷新模式 */
 public enum PreRefreshMode {
     SYNC,
-    ASYNC
+    ASYNC,
+    /**
+     * 概率提前过期（XFetch）：越接近过期、重新计算耗时越长，命中时触发刷新的概率越高，
+     * 被选中的调用方按未命中处理并同步回源，无需加锁即可错开同一热键的刷新。
+     */
+    PROBABILISTIC
 }
@@ -0,0 +1,9 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+/** 预刷新隔离舱已满时的处理策略，两种策略都不会在调用线程上执行刷新 */
+public enum PreRefreshOverflowPolicy {
+    /** 直接丢弃，旧值继续服务至下一次触发 */
+    DROP,
+    /** 延迟后重新提交，超过最大重试次数后丢弃 */
+    DEFER
+}
@@ -0,0 +1,27 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+/**
+ * 单个缓存预刷新隔离舱的统计快照
+ *
+ * @param cacheName 缓存名称
+ * @param concurrency 最大并发刷新数
+ * @param running 正在执行的刷新数
+ * @param queueDepth 排队中的刷新数
+ * @param completed 已成功完成的刷新数
+ * @param failed 执行失败的刷新数
+ * @param rejected 因隔离舱已满被丢弃的刷新数
+ * @param deferred 因隔离舱已满被延迟的次数
+ * @param averageLatencyMillis 刷新平均耗时（毫秒）
+ * @param maxLatencyMillis 刷新最大耗时（毫秒）
+ */
+public record PreRefreshStats(
+        String cacheName,
+        int concurrency,
+        int running,
+        int queueDepth,
+        long completed,
+        long failed,
+        long rejected,
+        long deferred,
+        double averageLatencyMillis,
+        long maxLatencyMillis) {}
@@ -5,6 +5,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 /**
  * 协调预刷新评估和异步执行。
  */
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Component;
 public class PreRefreshSupport {
 
     private final PreRefreshExecutor executor;
+    private final RefreshAheadScheduler refreshAheadScheduler;
 
     /**
      * 提交异步预刷新任务
@@ -30,7 +34,23 @@ public class PreRefreshSupport {
     }
 
     /**
-     * 取消指定键的异步预刷新任务
+     * 提交异步预刷新任务到指定缓存的隔离舱
+     *
+     * @param cacheName   缓存名称
+     * @param key         刷新任务关联的键
+     * @param hotness     键的热度，越大越优先执行
+     * @param refreshTask 要执行的刷新任务
+     */
+    public void submitAsyncRefresh(String cacheName, String key, long hotness, Runnable refreshTask) {
+        if (key == null || refreshTask == null) {
+            log.warn("Skipping async pre-refresh submission due to missing key or task");
+            return;
+        }
+        executor.submit(cacheName, key, hotness, refreshTask);
+    }
+
+    /**
+     * 取消指定键的异步预刷新任务，并停止主动预刷新跟踪
      *
      * @param key 需要取消刷新任务的键
      */
@@ -39,6 +59,29 @@ public class PreRefreshSupport {
             return;
         }
         executor.cancel(key);
+        refreshAheadScheduler.untrack(key);
+    }
+
+    /**
+     * 是否启用按到期时间的主动预刷新
+     *
+     * @return 启用返回 true
+     */
+    public boolean isRefreshAheadEnabled() {
+        return refreshAheadScheduler.isEnabled();
+    }
+
+    /**
+     * 登记主动预刷新，键在到期前由调度器按访问速率决定是否刷新
+     *
+     * @param cacheName      缓存名称
+     * @param key            缓存键
+     * @param expireAtMillis 缓存值到期时间戳（毫秒）
+     * @param taskFactory    刷新任务工厂，仅在首次登记时调用
+     */
+    public void trackRefreshAhead(
+            String cacheName, String key, long expireAtMillis, Supplier<Runnable> taskFactory) {
+        refreshAheadScheduler.track(cacheName, key, expireAtMillis, taskFactory);
     }
 
     /**
@@ -50,6 +93,15 @@ public class PreRefreshSupport {
         return executor.getStats();
     }
 
+    /**
+     * 获取各缓存预刷新隔离舱的统计快照
+     *
+     * @return 统计快照列表
+     */
+    public List<PreRefreshStats> getBulkheadStats() {
+        return executor.getBulkheadStats();
+    }
+
     /**
      * 获取正在进行刷新的键数量
      *
@@ -0,0 +1,32 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 按到期时间主动预刷新（refresh-ahead）的配置持有者。
+ */
+@Getter
+@Component
+public class RefreshAheadConfig {
+
+	private final boolean enabled;
+	private final long tickMillis;
+	private final long leadMillis;
+	private final double minAccessesPerMinute;
+	private final int maxTrackedKeys;
+
+	public RefreshAheadConfig(
+			@Value("${spring.resiCache.refresh-ahead.enabled:false}") boolean enabled,
+			@Value("${spring.resiCache.refresh-ahead.tick-ms:100}") long tickMillis,
+			@Value("${spring.resiCache.refresh-ahead.lead-ms:2000}") long leadMillis,
+			@Value("${spring.resiCache.refresh-ahead.min-accesses-per-minute:1.0}") double minAccessesPerMinute,
+			@Value("${spring.resiCache.refresh-ahead.max-tracked-keys:1000000}") int maxTrackedKeys) {
+		this.enabled = enabled;
+		this.tickMillis = Math.max(10, tickMillis);
+		this.leadMillis = Math.max(0, leadMillis);
+		this.minAccessesPerMinute = Math.max(0, minAccessesPerMinute);
+		this.maxTrackedKeys = Math.max(1, maxTrackedKeys);
+	}
+}
@@ -0,0 +1,186 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 按到期时间主动触发预刷新的调度器。
+ * <p>
+ * 命中时登记的键按 {@code 到期时间 - lead} 放入 {@link HierarchicalTimerWheel}，调度与取消均为 O(1)。
+ * 后台线程按 tick 推进时间轮，到期的键若在登记以来的访问速率不低于配置的下限，则将刷新任务提交到
+ * {@link PreRefreshExecutor}，否则放弃跟踪。这样访问突发但间隔较长的热键不必依赖请求恰好落在阈值窗口内，
+ * 也不会在两次突发之间过期后集中回源。
+ * </p>
+ */
+@Slf4j
+@Component
+public class RefreshAheadScheduler {
+
+    private final RefreshAheadConfig config;
+    private final PreRefreshExecutor executor;
+    private final ConcurrentHashMap<String, TrackedKey> tracked = new ConcurrentHashMap<>();
+    private final HierarchicalTimerWheel<TrackedKey> wheel;
+    private final ScheduledExecutorService ticker;
+
+    public RefreshAheadScheduler(RefreshAheadConfig config, PreRefreshExecutor executor) {
+        this.config = config;
+        this.executor = executor;
+        this.wheel = new HierarchicalTimerWheel<>(config.getTickMillis(), System.currentTimeMillis());
+        this.ticker =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "refresh-ahead-tick");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        if (config.isEnabled()) {
+            long tick = config.getTickMillis();
+            ticker.scheduleWithFixedDelay(this::advanceSafely, tick, tick, TimeUnit.MILLISECONDS);
+            log.info(
+                    "Refresh-ahead scheduler started: tick={}ms, lead={}ms, minAccessesPerMinute={}",
+                    tick,
+                    config.getLeadMillis(),
+                    config.getMinAccessesPerMinute());
+        }
+    }
+
+    /**
+     * 是否启用主动预刷新
+     *
+     * @return 启用返回 true
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 记录一次命中；键尚未跟踪时按到期时间登记刷新任务
+     *
+     * @param cacheName 缓存名称
+     * @param key 缓存键
+     * @param expireAtMillis 缓存值到期时间戳（毫秒）
+     * @param taskFactory 刷新任务工厂，仅在首次登记时调用
+     */
+    public void track(
+            String cacheName, String key, long expireAtMillis, Supplier<Runnable> taskFactory) {
+        if (!config.isEnabled() || key == null) {
+            return;
+        }
+        TrackedKey existing = tracked.get(key);
+        if (existing != null) {
+            existing.accesses.increment();
+            return;
+        }
+        if (tracked.size() >= config.getMaxTrackedKeys()) {
+            log.debug("Refresh-ahead tracking full, skipping key: {}", key);
+            return;
+        }
+
+        TrackedKey candidate =
+                new TrackedKey(cacheName, key, taskFactory.get(), System.currentTimeMillis());
+        TrackedKey current = tracked.putIfAbsent(key, candidate);
+        if (current != null) {
+            current.accesses.increment();
+            return;
+        }
+        synchronized (wheel) {
+            candidate.node = wheel.schedule(candidate, expireAtMillis - config.getLeadMillis());
+        }
+    }
+
+    /**
+     * 停止跟踪指定键，键被覆盖或删除时调用
+     *
+     * @param key 缓存键
+     */
+    public void untrack(String key) {
+        if (key == null) {
+            return;
+        }
+        TrackedKey removed = tracked.remove(key);
+        if (removed != null) {
+            synchronized (wheel) {
+                if (removed.node != null) {
+                    wheel.cancel(removed.node);
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取正在跟踪的键数量
+     *
+     * @return 跟踪的键数量
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    private void advanceSafely() {
+        try {
+            advance(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Failed to advance refresh-ahead timer wheel", e);
+        }
+    }
+
+    private void advance(long nowMillis) {
+        List<TrackedKey> due;
+        synchronized (wheel) {
+            due = wheel.advance(nowMillis);
+        }
+        for (TrackedKey entry : due) {
+            if (!tracked.remove(entry.key, entry)) {
+                continue;
+            }
+            double minutes = Math.max(1L, nowMillis - entry.trackedSince) / 60_000.0;
+            double rate = entry.accesses.sum() / minutes;
+            if (rate < config.getMinAccessesPerMinute()) {
+                log.debug(
+                        "Refresh-ahead skipped cold key: key={}, accessesPerMinute={}",
+                        entry.key,
+                        rate);
+                continue;
+            }
+            log.debug("Refresh-ahead firing for key: {}, accessesPerMinute={}", entry.key, rate);
+            executor.submit(entry.cacheName, entry.key, entry.accesses.sum(), entry.task);
+        }
+    }
+
+    /**
+     * 关闭调度线程，此方法在应用关闭时自动调用
+     */
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 跟踪中的键及其刷新任务与访问计数
+     */
+    private static final class TrackedKey {
+        private final String cacheName;
+        private final String key;
+        private final Runnable task;
+        private final long trackedSince;
+        private final LongAdder accesses = new LongAdder();
+        private HierarchicalTimerWheel.Node<TrackedKey> node;
+
+        private TrackedKey(String cacheName, String key, Runnable task, long trackedSince) {
+            this.cacheName = cacheName;
+            this.key = key;
+            this.task = task;
+            this.trackedSince = trackedSince;
+            this.accesses.increment();
+        }
+    }
+}
@@ -5,122 +5,195 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 在有限的线程池上执行预刷新任务，同时防止每个键的重复提交。
+ * 按缓存隔离执行预刷新任务，同时防止每个键的重复提交。
  * <p>
- * 此执行器管理一个线程池，用于异步执行缓存预刷新操作。
- * 它通过跟踪正在进行的操作，确保任何给定时间每个缓存键只执行一个刷新任务。
- * 任务被提交到具有可配置核心和最大大小的有限线程池中，
- * 被拒绝的任务由调用者运行策略处理。
+ * 每个缓存拥有独立的隔离舱：限定并发刷新数与排队容量，排队任务按键的热度优先执行，
+ * 同一键在排队期间被再次触发时累加热度。隔离舱已满时按 {@link PreRefreshOverflowPolicy}
+ * 丢弃或延迟重试，刷新永远不会在调用线程上执行，因此慢加载不会拖慢请求线程，也不会影响其他缓存。
  * </p>
  * <p>
- * 执行器还通过统计和活动计数方法提供监控功能，
- * 并支持取消正在进行的刷新操作。
+ * 任务运行在共享的工作线程上（平台线程池，或可选的虚拟线程），实际并发由各隔离舱的许可数限制。
+ * 执行器通过 {@link #getBulkheadStats()} 提供排队深度、拒绝次数与刷新耗时等统计，
+ * 并支持取消预刷新：排队中的任务被移除，执行中的任务不被中断，其结果由按版本条件写入丢弃。
  * </p>
  */
 @Slf4j
 @Component
 public class ThreadPoolPreRefreshExecutor implements PreRefreshExecutor {
 
-    private final ExecutorService executorService;
-    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight;
     private static final String THREAD_NAME_PREFIX = "pre-refresh-";
+    private static final String DEFAULT_BULKHEAD = "default";
 
-    /**
-     * 默认构造函数，创建具有默认配置的线程池执行器
-     */
-    public ThreadPoolPreRefreshExecutor() {
-        this(createExecutor(), new ConcurrentHashMap<>());
-    }
+    /** 热度高者优先，热度相同按提交顺序 */
+    private static final Comparator<RefreshTask> PRIORITY =
+            Comparator.comparingLong((RefreshTask task) -> task.hotness)
+                    .reversed()
+                    .thenComparingLong(task -> task.sequence);
+
+    private final PreRefreshExecutorConfig config;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService deferScheduler;
+    private final ConcurrentHashMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RefreshTask> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
 
     /**
-     * 构造函数，允许注入自定义的执行器服务和进行中的任务映射
+     * 构造函数，根据配置创建工作线程与延迟重试调度线程
      *
-     * @param executorService 线程池执行器服务
-     * @param inFlight        正在进行中的任务映射
+     * @param config 预刷新执行器配置
      */
-    ThreadPoolPreRefreshExecutor(
-            ExecutorService executorService, ConcurrentHashMap<String, CompletableFuture<Void>> inFlight) {
-        this.executorService = executorService;
-        this.inFlight = inFlight;
-        log.info("ThreadPoolPreRefreshExecutor initialized with thread pool: core=2, max=10, queue=100");
+    public ThreadPoolPreRefreshExecutor(PreRefreshExecutorConfig config) {
+        this.config = config;
+        this.workers = createWorkers(config.isVirtualThreads());
+        this.deferScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, THREAD_NAME_PREFIX + "defer");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        log.info(
+                "ThreadPoolPreRefreshExecutor initialized with per-cache bulkheads: concurrency={}, queue={}, overflow={}, virtualThreads={}",
+                config.getConcurrency(),
+                config.getQueueCapacity(),
+                config.getOverflowPolicy(),
+                config.isVirtualThreads());
     }
 
     /**
-     * 创建具有预定义配置的线程池执行器
+     * 创建工作线程，请求虚拟线程但当前 JVM 不支持时退化为平台线程
      *
-     * @return 配置好的线程池执行器
+     * @param virtualThreads 是否使用虚拟线程
+     * @return 工作线程执行器
      */
-    private static ExecutorService createExecutor() {
-        return new ThreadPoolExecutor(
-                2,
-                10,
-                60L,
-                TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(100),
-                new PreRefreshThreadFactory(),
-                new ThreadPoolExecutor.CallerRunsPolicy());
+    private static ExecutorService createWorkers(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not available on this JVM, falling back to platform threads");
+            }
+        }
+        return Executors.newCachedThreadPool(new PreRefreshThreadFactory());
     }
 
     /**
-     * 提交一个预刷新任务到执行器中
-     * 如果给定键的任务已经在执行中，则跳过提交
+     * 提交一个预刷新任务到默认隔离舱
      *
      * @param key  与预刷新任务关联的键
      * @param task 要执行的预刷新任务
      */
     @Override
     public void submit(String key, Runnable task) {
+        submit(DEFAULT_BULKHEAD, key, 1L, task);
+    }
+
+    /**
+     * 提交一个预刷新任务到指定缓存的隔离舱
+     * 如果给定键的任务已经在排队或执行中，则跳过提交并累加其热度
+     *
+     * @param cacheName 缓存名称
+     * @param key       与预刷新任务关联的键
+     * @param hotness   键的热度，越大越优先执行
+     * @param task      要执行的预刷新任务
+     */
+    @Override
+    public void submit(String cacheName, String key, long hotness, Runnable task) {
         if (key == null || task == null) {
             return;
         }
-        AtomicBoolean scheduled = new AtomicBoolean(false);
-
-        CompletableFuture<Void> future =
-                inFlight.computeIfAbsent(
-                        key,
-                        k -> {
-                            scheduled.set(true);
-                            CompletableFuture<Void> created =
-                                    CompletableFuture.runAsync(
-                                            () -> {
-                                                try {
-                                                    log.debug("Starting async pre-refresh for key: {}", k);
-                                                    task.run();
-                                                    log.debug("Completed async pre-refresh for key: {}", k);
-                                                } catch (Exception ex) {
-                                                    log.error(
-                                                            "Failed to execute async pre-refresh for key: {}",
-                                                            k,
-                                                            ex);
-                                                    throw ex;
-                                                }
-                                            },
-                                            executorService);
-
-                            created.whenComplete(
-                                    (result, throwable) -> {
-                                        inFlight.remove(k, created);
-                                        if (throwable != null) {
-                                            log.error("Async pre-refresh failed for key: {}", k, throwable);
-                                        }
-                                    });
-                            return created;
-                        });
+        Bulkhead bulkhead =
+                bulkheads.computeIfAbsent(cacheName != null ? cacheName : DEFAULT_BULKHEAD, Bulkhead::new);
+        RefreshTask candidate =
+                new RefreshTask(bulkhead, key, task, Math.max(1L, hotness), sequence.incrementAndGet());
 
-        if (!scheduled.get() && !future.isDone()) {
+        RefreshTask existing = inFlight.putIfAbsent(key, candidate);
+        if (existing != null) {
+            existing.bulkhead.bump(existing, Math.max(1L, hotness));
             log.debug("Key {} is already being refreshed, skipping", key);
+            return;
+        }
+        if (!bulkhead.offer(candidate)) {
+            overflow(candidate, 0);
+        }
+    }
+
+    /**
+     * 隔离舱已满时按策略丢弃或延迟重试
+     *
+     * @param task    被拒绝的任务
+     * @param attempt 已延迟的次数
+     */
+    private void overflow(RefreshTask task, int attempt) {
+        Bulkhead bulkhead = task.bulkhead;
+        if (config.getOverflowPolicy() == PreRefreshOverflowPolicy.DEFER
+                && attempt < config.getMaxDeferAttempts()
+                && !task.cancelled) {
+            bulkhead.deferred.increment();
+            try {
+                deferScheduler.schedule(
+                        () -> retry(task, attempt + 1), config.getDeferDelayMillis(), TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.debug("Pre-refresh defer scheduler is shut down, dropping key: {}", task.key);
+            }
+        }
+        bulkhead.rejected.increment();
+        inFlight.remove(task.key, task);
+        log.debug("Pre-refresh bulkhead {} is full, dropping refresh for key: {}", bulkhead.name, task.key);
+    }
+
+    private void retry(RefreshTask task, int attempt) {
+        if (task.cancelled || inFlight.get(task.key) != task) {
+            return;
+        }
+        if (!task.bulkhead.offer(task)) {
+            overflow(task, attempt);
+        }
+    }
+
+    /**
+     * 在工作线程上执行任务，并在结束后释放隔离舱许可、调度下一个排队任务
+     *
+     * @param task 要执行的任务
+     */
+    private void run(RefreshTask task) {
+        long startNanos = System.nanoTime();
+        boolean failed = false;
+        try {
+            if (!task.cancelled) {
+                log.debug("Starting async pre-refresh for key: {}", task.key);
+                task.task.run();
+                log.debug("Completed async pre-refresh for key: {}", task.key);
+            }
+        } catch (Throwable ex) {
+            failed = true;
+            log.error("Failed to execute async pre-refresh for key: {}", task.key, ex);
+        } finally {
+            inFlight.remove(task.key, task);
+            task.bulkhead.finished(System.nanoTime() - startNanos, failed);
         }
     }
 
     /**
      * 取消与给定键关联的预刷新任务
      *
+     * <p>排队中的任务直接移除；执行中的任务只标记为已取消而不中断线程，中断可能打断加载方法中的 I/O 并污染工作线程，
+     * 刷新结果写回时会比较缓存值版本，缓存已被删除或覆盖时自动丢弃。
+     *
      * @param key 要取消的预刷新任务的键
      */
     @Override
@@ -128,55 +201,56 @@ public class ThreadPoolPreRefreshExecutor implements PreRefreshExecutor {
         if (key == null) {
             return;
         }
-        CompletableFuture<Void> future = inFlight.remove(key);
-        if (future != null) {
-            boolean cancelled = future.cancel(true);
-            log.debug(
-                    "Cancelled async pre-refresh for key: {} (cancelled={}, done={})",
-                    key,
-                    cancelled,
-                    future.isDone());
+        RefreshTask task = inFlight.remove(key);
+        if (task != null) {
+            task.cancelled = true;
+            boolean dequeued = task.bulkhead.remove(task);
+            log.debug("Cancelled async pre-refresh for key: {} (dequeued={})", key, dequeued);
         }
     }
 
     /**
-     * 获取线程池的统计信息
+     * 获取所有隔离舱的汇总统计信息
      *
-     * @return 包含活动线程数、池大小、队列大小和已完成任务数的字符串
+     * @return 包含隔离舱数量、执行中、排队中与被拒绝任务数的字符串
      */
     @Override
     public String getStats() {
-        if (executorService instanceof ThreadPoolExecutor tpe) {
-            return String.format(
-                    "PreRefreshThreadPool[active=%d, poolSize=%d, queueSize=%d, completed=%d]",
-                    tpe.getActiveCount(),
-                    tpe.getPoolSize(),
-                    tpe.getQueue().size(),
-                    tpe.getCompletedTaskCount());
-        }
-        return "PreRefreshThreadPool[unknown]";
+        int running = 0;
+        int queued = 0;
+        long rejected = 0;
+        for (PreRefreshStats stats : getBulkheadStats()) {
+            running += stats.running();
+            queued += stats.queueDepth();
+            rejected += stats.rejected();
+        }
+        return String.format(
+                "PreRefreshBulkheads[caches=%d, running=%d, queued=%d, rejected=%d]",
+                bulkheads.size(), running, queued, rejected);
     }
 
     /**
-     * 获取当前正在进行的预刷新任务数量
+     * 获取各缓存隔离舱的统计快照
      *
-     * @return 正在进行的任务数量
+     * @return 统计快照列表
      */
     @Override
-    public int getActiveCount() {
-        cleanFinished();
-        return inFlight.size();
+    public List<PreRefreshStats> getBulkheadStats() {
+        List<PreRefreshStats> stats = new ArrayList<>(bulkheads.size());
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            stats.add(bulkhead.snapshot());
+        }
+        return stats;
     }
 
     /**
-     * 清理已完成的任务，从进行中的映射中移除已完成的任务
+     * 获取当前排队或执行中的预刷新任务数量
+     *
+     * @return 正在进行的任务数量
      */
-	private void cleanFinished() {
-        for (Map.Entry<String, CompletableFuture<Void>> entry : inFlight.entrySet()) {
-            if (entry.getValue().isDone()) {
-                inFlight.remove(entry.getKey(), entry.getValue());
-            }
-        }
+    @Override
+    public int getActiveCount() {
+        return inFlight.size();
     }
 
     /**
@@ -186,22 +260,144 @@ public class ThreadPoolPreRefreshExecutor implements PreRefreshExecutor {
     @Override
     @PreDestroy
     public void shutdown() {
-        log.info("Shutting down pre-refresh executor thread pool...");
-        executorService.shutdown();
+        log.info("Shutting down pre-refresh executor...");
+        deferScheduler.shutdownNow();
+        workers.shutdown();
         try {
-            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
                 log.warn("Pre-refresh executor did not terminate gracefully, forced shutdown");
             } else {
                 log.info("Pre-refresh executor shut down successfully");
             }
         } catch (InterruptedException e) {
-            executorService.shutdownNow();
+            workers.shutdownNow();
             Thread.currentThread().interrupt();
             log.error("Pre-refresh executor shutdown interrupted", e);
         }
     }
 
+    /**
+     * 单个缓存的隔离舱：限定并发数与排队容量，排队任务按热度排序
+     */
+    private final class Bulkhead {
+        private final String name;
+        private final int concurrency;
+        private final int queueCapacity;
+        private final PriorityQueue<RefreshTask> queue = new PriorityQueue<>(PRIORITY);
+        private int running;
+
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder deferred = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+        private Bulkhead(String name) {
+            this.name = name;
+            this.concurrency = config.concurrencyFor(name);
+            this.queueCapacity = config.queueCapacityFor(name);
+        }
+
+        /**
+         * 有空闲许可时立即执行，否则在容量内排队
+         *
+         * @param task 任务
+         * @return 已执行或已排队返回 true，隔离舱已满返回 false
+         */
+        private synchronized boolean offer(RefreshTask task) {
+            if (running < concurrency) {
+                running++;
+                start(task);
+                return true;
+            }
+            if (queue.size() < queueCapacity) {
+                queue.add(task);
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void bump(RefreshTask task, long hotness) {
+            if (queue.remove(task)) {
+                task.hotness += hotness;
+                queue.add(task);
+            }
+        }
+
+        private synchronized boolean remove(RefreshTask task) {
+            return queue.remove(task);
+        }
+
+        private void finished(long elapsedNanos, boolean taskFailed) {
+            if (taskFailed) {
+                failed.increment();
+            } else {
+                completed.increment();
+            }
+            latencyNanos.add(elapsedNanos);
+            maxLatencyNanos.accumulate(elapsedNanos);
+
+            synchronized (this) {
+                RefreshTask next = queue.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+                start(next);
+            }
+        }
+
+        /** 调用方须持有隔离舱锁并已占用一个许可 */
+        private void start(RefreshTask task) {
+            try {
+                workers.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                running--;
+                inFlight.remove(task.key, task);
+                log.debug("Pre-refresh executor is shut down, dropping key: {}", task.key);
+            }
+        }
+
+        private synchronized PreRefreshStats snapshot() {
+            long finishedCount = completed.sum() + failed.sum();
+            double averageMillis =
+                    finishedCount == 0 ? 0.0 : latencyNanos.sum() / 1_000_000.0 / finishedCount;
+            return new PreRefreshStats(
+                    name,
+                    concurrency,
+                    running,
+                    queue.size(),
+                    completed.sum(),
+                    failed.sum(),
+                    rejected.sum(),
+                    deferred.sum(),
+                    averageMillis,
+                    TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+        }
+    }
+
+    /**
+     * 排队或执行中的预刷新任务
+     */
+    private static final class RefreshTask {
+        private final Bulkhead bulkhead;
+        private final String key;
+        private final Runnable task;
+        private final long sequence;
+        private long hotness;
+        private volatile boolean cancelled;
+
+        private RefreshTask(Bulkhead bulkhead, String key, Runnable task, long hotness, long sequence) {
+            this.bulkhead = bulkhead;
+            this.key = key;
+            this.task = task;
+            this.hotness = hotness;
+            this.sequence = sequence;
+        }
+    }
+
     /**
      * 为预刷新线程创建命名线程的工厂类
      */
@@ -0,0 +1,88 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 单次往返的原子 putIfAbsent。
+ *
+ * <p>通过 Lua 脚本（EVALSHA，缺失时回退 EVAL）在服务端完成：键不存在或已有值是逻辑过期的二进制信封时写入并返回 null，
+ * 否则原样返回已有值（按二进制读取，不经过状态回复的字符串转换）。无法识别为二进制信封的已有值（旧版 JSON 或其他客户端写入的数据）
+ * 一律视为存在；过期以 Redis 服务端时间判定，不受各应用节点时钟偏差影响。
+ */
+@Component
+@RequiredArgsConstructor
+public class AtomicPutIfAbsentSupport {
+
+    /**
+     * KEYS[1] 缓存键；ARGV[1] 值，ARGV[2] TTL（秒），小于等于 0 表示永久
+     *
+     * <p>信封头中 flags 的最低位或 createdTime + ttl 早于服务端 TIME 表示已过期，与 {@code CachedValue#isExpired} 一致。
+     * 读取 TIME 后仍需写入，低版本 Redis 需先切换为按效果复制
+     */
+    private static final String PUT_IF_ABSENT_SCRIPT =
+            """
+            local existing = redis.call('GET', KEYS[1])
+            if existing then
+              local format = string.byte(existing, 2)
+              local length = string.len(existing)
+              if string.byte(existing, 1) ~= 203 or not ((format == 1 and length >= 28) or (format == 2 and length >= 36)) then
+                return existing
+              end
+              local expired = string.byte(existing, 3) % 2 == 1
+              if not expired and string.byte(existing, 5) < 128 and string.byte(existing, 13) < 128 then
+                local created = 0
+                local ttl = 0
+                for i = 5, 12 do
+                  created = created * 256 + string.byte(existing, i)
+                end
+                for i = 13, 20 do
+                  ttl = ttl * 256 + string.byte(existing, i)
+                end
+                if ttl > 0 then
+                  if redis.replicate_commands then
+                    redis.replicate_commands()
+                  end
+                  local now = redis.call('TIME')
+                  local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+                  expired = nowMillis - created >= ttl * 1000
+                end
+              end
+              if not expired then
+                return existing
+              end
+            end
+            local ttl = tonumber(ARGV[2])
+            if ttl > 0 then
+              redis.call('SET', KEYS[1], ARGV[1], 'EX', ttl)
+            else
+              redis.call('SET', KEYS[1], ARGV[1])
+            end
+            return false
+            """;
+
+    private static final RedisScript<byte[]> SCRIPT =
+            RedisScript.of(PUT_IF_ABSENT_SCRIPT, byte[].class);
+
+    private final LuaScriptExecutor scriptExecutor;
+
+    /**
+     * 仅在键不存在（或已有值逻辑过期）时写入，并在一次往返内返回已有值
+     *
+     * @param redisKey Redis 键
+     * @param value 待写入的原始字节
+     * @param ttlSeconds TTL（秒），小于等于 0 表示永久
+     * @return 键已存在且未过期时返回已有值的原始字节；写入成功返回 null
+     */
+    @Nullable
+    public byte[] putIfAbsent(String redisKey, byte[] value, long ttlSeconds) {
+        byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+        byte[] rawTtl = Long.toString(ttlSeconds).getBytes(StandardCharsets.US_ASCII);
+        return scriptExecutor.execute(SCRIPT, 1, rawKey, value, rawTtl);
+    }
+}
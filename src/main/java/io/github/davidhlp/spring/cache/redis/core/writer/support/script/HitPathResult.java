@@ -0,0 +1,71 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+/**
+ * 命中路径脚本的执行结果
+ *
+ * @param raw 缓存键中存储的原始字节
+ * @param pttlMillis 服务端返回的剩余存活时间（毫秒），-1 表示永久
+ * @param refreshFlag 预刷新判定：1 需要预刷新，0 不需要，-1 无法在服务端判定（旧格式数据）
+ * @param leaseFlag 刷新租约：1 已获得，0 由其他节点持有，-1 未尝试获取
+ * @param visits 本次累加后服务端记录的访问次数，-1 表示本次未记录
+ * @param accessTracked 访问统计是否已由脚本处理（含未被采样的情况），Redis Cluster 下为 false，需由调用方在本地记录
+ */
+public record HitPathResult(
+        byte[] raw,
+        long pttlMillis,
+        int refreshFlag,
+        int leaseFlag,
+        long visits,
+        boolean accessTracked) {
+
+    /** 服务端无法判定预刷新时的标记值 */
+    public static final int REFRESH_UNKNOWN = -1;
+
+    /** 未尝试获取刷新租约时的标记值 */
+    public static final int LEASE_NOT_REQUESTED = -1;
+
+    /**
+     * 获取以秒为单位的剩余 TTL
+     *
+     * @return 剩余 TTL（秒），-1 表示永久
+     */
+    public long remainingTtlSeconds() {
+        return pttlMillis < 0 ? -1 : pttlMillis / 1000;
+    }
+
+    /**
+     * 服务端是否已给出预刷新判定
+     *
+     * @return 已判定返回 true
+     */
+    public boolean refreshDecided() {
+        return refreshFlag != REFRESH_UNKNOWN;
+    }
+
+    /**
+     * 是否需要预刷新
+     *
+     * @return 需要预刷新返回 true
+     */
+    public boolean needsRefresh() {
+        return refreshFlag == 1;
+    }
+
+    /**
+     * 服务端是否已尝试获取刷新租约
+     *
+     * @return 已尝试返回 true
+     */
+    public boolean leaseDecided() {
+        return leaseFlag != LEASE_NOT_REQUESTED;
+    }
+
+    /**
+     * 是否获得了刷新租约
+     *
+     * @return 获得返回 true
+     */
+    public boolean leaseAcquired() {
+        return leaseFlag == 1;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 单次往返命中路径（服务端 Lua 脚本）的配置持有者。
+ */
+@Getter
+@Component
+public class HitPathScriptConfig {
+
+	private final boolean enabled;
+
+	public HitPathScriptConfig(
+			@Value("${spring.resiCache.script.hit-path-enabled:false}") boolean enabled) {
+		this.enabled = enabled;
+	}
+}
@@ -0,0 +1,223 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.support.access.AccessTrackingConfig;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.access.AccessTrackingSupport;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单次往返的缓存命中路径。
+ *
+ * <p>通过一个预加载的 Lua 脚本（EVALSHA，缺失时回退 EVAL）在服务端完成：读取缓存值、读取 PTTL、依据信封头中的
+ * TTL 与 {@code preRefreshThreshold} 判定是否需要预刷新，并原子地更新访问统计 Hash。预刷新判定使用 Redis 的剩余
+ * 存活时间，不依赖各应用节点的本地时钟。启用跨节点刷新租约时，判定需要预刷新后在同一次往返内按缓存值版本获取租约。
+ *
+ * <p>脚本只声明本次实际会访问的键：访问统计键仅在本次访问被采样时传入，租约键仅在启用刷新租约时传入。Redis Cluster
+ * 下访问统计键与租约键通常与缓存键不在同一槽位，此时脚本只声明缓存键，访问统计交由 {@link AccessTrackingSupport}
+ * 本地聚合回写，租约由调用方单独获取，避免 CROSSSLOT 错误。
+ */
+@Slf4j
+@Component
+public class HitPathScriptSupport {
+
+    /**
+     * KEYS[1] 缓存键，其后依次为访问统计键（仅 ARGV[2] 大于 0 时）与刷新租约键（仅 ARGV[6] 大于 0 时）；ARGV[1] 预刷新阈值，
+     * ARGV[2] 访问权重（0 表示不记录），ARGV[3]/ARGV[4] 访问统计字段，ARGV[5] 访问统计默认保留时间（毫秒），ARGV[6]
+     * 租约时长（毫秒，0 表示不获取）
+     */
+    private static final String HIT_PATH_SCRIPT =
+            """
+            local raw = redis.call('GET', KEYS[1])
+            if not raw then
+              return nil
+            end
+            local weight = tonumber(ARGV[2])
+            local leaseMillis = tonumber(ARGV[6])
+            local nextKey = 2
+            local accessKey
+            local leaseKey
+            if weight > 0 then
+              accessKey = KEYS[nextKey]
+              nextKey = nextKey + 1
+            end
+            if leaseMillis > 0 then
+              leaseKey = KEYS[nextKey]
+            end
+            local pttl = redis.call('PTTL', KEYS[1])
+            local refresh = -1
+            local format = string.byte(raw, 2)
+            if string.len(raw) >= 28 and string.byte(raw, 1) == 203 and (format == 1 or format == 2) then
+              refresh = 0
+              local threshold = tonumber(ARGV[1])
+              if threshold > 0 and threshold < 1 and pttl >= 0 and string.byte(raw, 13) < 128 then
+                local ttl = 0
+                for i = 13, 20 do
+                  ttl = ttl * 256 + string.byte(raw, i)
+                end
+                if ttl > 0 and pttl <= ttl * 1000 * threshold then
+                  refresh = 1
+                end
+              end
+            end
+            local lease = -1
+            if refresh == 1 and leaseKey then
+              local version = string.sub(raw, 21, 28)
+              if redis.call('GET', leaseKey) == version then
+                lease = 0
+              else
+                redis.call('SET', leaseKey, version, 'PX', ARGV[6])
+                lease = 1
+              end
+            end
+            local visits = -1
+            if accessKey then
+              local now = redis.call('TIME')
+              local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+              visits = redis.call('HINCRBY', accessKey, ARGV[3], weight)
+              redis.call('HSET', accessKey, ARGV[4], string.format('%.0f', nowMillis))
+              if pttl > 0 then
+                redis.call('PEXPIRE', accessKey, pttl)
+              else
+                redis.call('PEXPIRE', accessKey, ARGV[5])
+              end
+            end
+            return {raw, pttl, refresh, lease, visits}
+            """;
+
+    private static final RedisScript<List> SCRIPT = RedisScript.of(HIT_PATH_SCRIPT, List.class);
+    private static final byte[] VISIT_FIELD =
+            AccessTrackingSupport.FIELD_VISIT_TIMES.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LAST_ACCESS_FIELD =
+            AccessTrackingSupport.FIELD_LAST_ACCESS_TIME.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LuaScriptExecutor scriptExecutor;
+    private final HitPathScriptConfig config;
+    private final AccessTrackingSupport accessTrackingSupport;
+    private final RefreshLeaseSupport refreshLeaseSupport;
+    private final byte[] retentionMillis;
+
+    public HitPathScriptSupport(
+            RedisTemplate<String, Object> redisTemplate,
+            LuaScriptExecutor scriptExecutor,
+            HitPathScriptConfig config,
+            AccessTrackingSupport accessTrackingSupport,
+            AccessTrackingConfig accessTrackingConfig,
+            RefreshLeaseSupport refreshLeaseSupport) {
+        this.redisTemplate = redisTemplate;
+        this.scriptExecutor = scriptExecutor;
+        this.config = config;
+        this.accessTrackingSupport = accessTrackingSupport;
+        this.refreshLeaseSupport = refreshLeaseSupport;
+        this.retentionMillis =
+                Long.toString(TimeUnit.SECONDS.toMillis(accessTrackingConfig.getRetentionSeconds()))
+                        .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 启用时在启动阶段预加载脚本，失败不影响启动，首次执行时会回退为 EVAL */
+    @PostConstruct
+    public void preload() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            String sha = scriptExecutor.load(SCRIPT);
+            log.info("Preloaded cache hit path script: sha1={}", sha);
+        } catch (Exception e) {
+            log.warn("Failed to preload cache hit path script, will fall back to EVAL", e);
+        }
+    }
+
+    /**
+     * 是否启用脚本命中路径
+     *
+     * @return 启用返回 true
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 在一次往返内读取缓存值、剩余 TTL 与预刷新判定，并记录访问统计；需要预刷新且启用租约时同时获取刷新租约。Redis
+     * Cluster 下只读取缓存值与预刷新判定，访问统计与租约由调用方处理
+     *
+     * @param redisKey Redis 键
+     * @param refreshThreshold 预刷新阈值，小于等于 0 表示不判定预刷新
+     * @param sampleRate 访问统计采样率
+     * @return 执行结果，键不存在时返回 null
+     */
+    @Nullable
+    public HitPathResult execute(String redisKey, double refreshThreshold, double sampleRate) {
+        return redisTemplate.execute(
+                (RedisCallback<HitPathResult>)
+                        connection -> execute(connection, redisKey, refreshThreshold, sampleRate));
+    }
+
+    @Nullable
+    private HitPathResult execute(
+            RedisConnection connection, String redisKey, double refreshThreshold, double sampleRate) {
+        // 集群下附加键与缓存键不在同一槽位，只声明缓存键
+        boolean singleKey = connection instanceof RedisClusterConnection;
+        long weight = singleKey ? 0L : accessTrackingSupport.sampleWeight(sampleRate);
+        long leaseMillis =
+                !singleKey && refreshLeaseSupport.isEnabled() ? refreshLeaseSupport.leaseMillis() : 0L;
+
+        List<byte[]> keys = new ArrayList<>(3);
+        keys.add(redisKey.getBytes(StandardCharsets.UTF_8));
+        if (weight > 0) {
+            keys.add(accessTrackingSupport.accessKey(redisKey).getBytes(StandardCharsets.UTF_8));
+        }
+        if (leaseMillis > 0) {
+            keys.add(refreshLeaseSupport.leaseKey(redisKey).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[][] args = {
+            Double.toString(refreshThreshold).getBytes(StandardCharsets.UTF_8),
+            Long.toString(weight).getBytes(StandardCharsets.UTF_8),
+            VISIT_FIELD,
+            LAST_ACCESS_FIELD,
+            retentionMillis,
+            Long.toString(leaseMillis).getBytes(StandardCharsets.UTF_8)
+        };
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i);
+        }
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+
+        List<Object> reply = scriptExecutor.execute(connection, SCRIPT, keys.size(), keysAndArgs);
+        if (reply == null || reply.size() < 4 || !(reply.get(0) instanceof byte[] raw)) {
+            return null;
+        }
+        return new HitPathResult(
+                raw,
+                toLong(reply.get(1)),
+                (int) toLong(reply.get(2)),
+                (int) toLong(reply.get(3)),
+                reply.size() > 4 ? toLong(reply.get(4)) : -1L,
+                !singleKey);
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof byte[] bytes) {
+            return Long.parseLong(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return -1L;
+    }
+}
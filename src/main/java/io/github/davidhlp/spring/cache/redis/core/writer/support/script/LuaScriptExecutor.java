@@ -0,0 +1,155 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lua 脚本的统一执行入口。
+ *
+ * <p>优先按 SHA1 执行服务端已缓存的脚本（EVALSHA），服务端尚未加载时回退为 EVAL（同时完成加载）。键与参数均按原始字节传递，
+ * 不经过 {@link RedisTemplate} 的序列化器；回复类型由脚本声明的结果类型决定（Long、List、byte[] 等）。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LuaScriptExecutor {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 执行脚本
+     *
+     * @param script 脚本
+     * @param numKeys 键的数量，keysAndArgs 中前 numKeys 个为键
+     * @param keysAndArgs 键与参数
+     * @return 脚本回复
+     */
+    @Nullable
+    public <T> T execute(RedisScript<?> script, int numKeys, byte[]... keysAndArgs) {
+        return redisTemplate.execute(
+                (RedisCallback<T>) connection -> execute(connection, script, numKeys, keysAndArgs));
+    }
+
+    /**
+     * 在调用方已持有的连接上执行脚本，供需要按连接类型决定键与参数的调用方使用
+     *
+     * @param connection Redis 连接
+     * @param script 脚本
+     * @param numKeys 键的数量，keysAndArgs 中前 numKeys 个为键
+     * @param keysAndArgs 键与参数
+     * @return 脚本回复
+     */
+    @Nullable
+    public <T> T execute(
+            RedisConnection connection, RedisScript<?> script, int numKeys, byte[]... keysAndArgs) {
+        try {
+            return connection
+                    .scriptingCommands()
+                    .evalSha(script.getSha1(), returnType(script), numKeys, keysAndArgs);
+        } catch (Exception e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            log.debug("Script not cached on server, falling back to EVAL: sha1={}", script.getSha1());
+            return connection
+                    .scriptingCommands()
+                    .eval(scriptBytes(script), returnType(script), numKeys, keysAndArgs);
+        }
+    }
+
+    /**
+     * 以非阻塞方式执行脚本；连接工厂不支持响应式 API 时在订阅线程上同步执行
+     *
+     * @param script 脚本
+     * @param numKeys 键的数量，keysAndArgs 中前 numKeys 个为键
+     * @param keysAndArgs 键与参数
+     * @return 脚本回复，脚本返回 nil 时为空
+     */
+    public <T> Mono<T> executeReactive(RedisScript<?> script, int numKeys, byte[]... keysAndArgs) {
+        if (!(redisTemplate.getConnectionFactory() instanceof ReactiveRedisConnectionFactory factory)) {
+            return Mono.fromCallable(() -> execute(script, numKeys, keysAndArgs));
+        }
+        return Mono.usingWhen(
+                Mono.fromSupplier(factory::getReactiveConnection),
+                connection ->
+                        connection
+                                .scriptingCommands()
+                                .<T>evalSha(
+                                        script.getSha1(),
+                                        returnType(script),
+                                        numKeys,
+                                        buffers(keysAndArgs))
+                                .next()
+                                .onErrorResume(
+                                        LuaScriptExecutor::isNoScriptError,
+                                        e -> {
+                                            log.debug(
+                                                    "Script not cached on server, falling back to EVAL: sha1={}",
+                                                    script.getSha1());
+                                            return connection
+                                                    .scriptingCommands()
+                                                    .<T>eval(
+                                                            ByteBuffer.wrap(scriptBytes(script)),
+                                                            returnType(script),
+                                                            numKeys,
+                                                            buffers(keysAndArgs))
+                                                    .next();
+                                        }),
+                ReactiveRedisConnection::closeLater);
+    }
+
+    /**
+     * 将脚本加载到服务端
+     *
+     * @param script 脚本
+     * @return 服务端返回的 SHA1
+     */
+    @Nullable
+    public String load(RedisScript<?> script) {
+        return redisTemplate.execute(
+                (RedisCallback<String>)
+                        connection -> connection.scriptingCommands().scriptLoad(scriptBytes(script)));
+    }
+
+    private static ReturnType returnType(RedisScript<?> script) {
+        return ReturnType.fromJavaType(script.getResultType());
+    }
+
+    private static byte[] scriptBytes(RedisScript<?> script) {
+        return script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 每次执行都重新包装，ByteBuffer 的读位置会被消费 */
+    private static ByteBuffer[] buffers(byte[][] keysAndArgs) {
+        ByteBuffer[] buffers = new ByteBuffer[keysAndArgs.length];
+        for (int i = 0; i < keysAndArgs.length; i++) {
+            buffers[i] = ByteBuffer.wrap(keysAndArgs[i]);
+        }
+        return buffers;
+    }
+
+    private static boolean isNoScriptError(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            String message = current.getMessage();
+            if (message != null && message.contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 跨节点预刷新租约的配置持有者。
+ */
+@Getter
+@Component
+public class RefreshLeaseConfig {
+
+	private final boolean enabled;
+	private final String keyPrefix;
+	private final long leaseMillis;
+
+	public RefreshLeaseConfig(
+			@Value("${spring.resiCache.refresh-lease.enabled:false}") boolean enabled,
+			@Value("${spring.resiCache.refresh-lease.prefix:refresh-lease:}") String keyPrefix,
+			@Value("${spring.resiCache.refresh-lease.lease-ms:10000}") long leaseMillis) {
+		this.enabled = enabled;
+		this.keyPrefix = keyPrefix;
+		this.leaseMillis = Math.max(100, leaseMillis);
+	}
+}
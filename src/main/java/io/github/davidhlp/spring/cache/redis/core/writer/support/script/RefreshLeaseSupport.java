@@ -0,0 +1,130 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 跨节点的预刷新租约。
+ *
+ * <p>每个缓存键对应一个租约键（{@code prefix + redisKey}），其值为被刷新缓存值的版本号。租约键不存在或记录的是其他版本时，
+ * 调用方以短 TTL 写入当前版本并获得刷新权；记录的已是当前版本时说明其他节点正在刷新，调用方继续返回当前值且不提交本地任务。
+ * 因此同一版本在整个集群内只刷新一次，值被替换后新版本可立即再次获得租约。
+ *
+ * <p>启用脚本命中路径时，租约在命中判断的同一次往返中获取；其余情况在判定需要预刷新后额外执行一次。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshLeaseSupport {
+
+    /** KEYS[1] 租约键；ARGV[1] 缓存值版本号，ARGV[2] 租约时长（毫秒） */
+    private static final String LEASE_SCRIPT =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """;
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of(LEASE_SCRIPT, Long.class);
+
+    private final LuaScriptExecutor scriptExecutor;
+    private final RefreshLeaseConfig config;
+
+    /**
+     * 是否启用跨节点租约
+     *
+     * @return 启用返回 true
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 获取缓存键对应的租约键
+     *
+     * @param redisKey Redis 键
+     * @return 租约键
+     */
+    public String leaseKey(String redisKey) {
+        return config.getKeyPrefix() + redisKey;
+    }
+
+    /**
+     * 获取租约时长
+     *
+     * @return 租约时长（毫秒）
+     */
+    public long leaseMillis() {
+        return config.getLeaseMillis();
+    }
+
+    /**
+     * 尝试获取指定版本的刷新租约，未启用时总是成功
+     *
+     * @param redisKey Redis 键
+     * @param version 待刷新缓存值的版本号
+     * @return 获得刷新权返回 true
+     */
+    public boolean tryAcquire(String redisKey, long version) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        Long acquired = scriptExecutor.execute(SCRIPT, 1, keysAndArgs(redisKey, version));
+        return granted(acquired, redisKey, version);
+    }
+
+    /**
+     * 以非阻塞方式尝试获取指定版本的刷新租约，未启用时总是成功，供运行在 I/O 线程上的异步命中路径使用
+     *
+     * @param redisKey Redis 键
+     * @param version 待刷新缓存值的版本号
+     * @return 获得刷新权时完成为 true
+     */
+    public CompletionStage<Boolean> tryAcquireAsync(String redisKey, long version) {
+        if (!config.isEnabled()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return scriptExecutor
+                .<Long>executeReactive(SCRIPT, 1, keysAndArgs(redisKey, version))
+                .map(acquired -> granted(acquired, redisKey, version))
+                .defaultIfEmpty(false)
+                .toFuture();
+    }
+
+    private byte[][] keysAndArgs(String redisKey, long version) {
+        return new byte[][] {
+            leaseKey(redisKey).getBytes(StandardCharsets.UTF_8),
+            versionBytes(version),
+            Long.toString(config.getLeaseMillis()).getBytes(StandardCharsets.US_ASCII)
+        };
+    }
+
+    private static boolean granted(@Nullable Long acquired, String redisKey, long version) {
+        boolean granted = acquired != null && acquired == 1L;
+        if (!granted) {
+            log.debug("Refresh lease held by another node: key={}, version={}", redisKey, version);
+        }
+        return granted;
+    }
+
+    /**
+     * 版本号的租约值表示，与信封头中 version 字段的字节一致
+     *
+     * @param version 版本号
+     * @return 大端序 8 字节
+     */
+    private static byte[] versionBytes(long version) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(version).array();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.script;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 按版本号条件写入。
+ *
+ * <p>后台刷新在重新加载期间，缓存值可能已被删除或被新的写入替换。写入前在服务端比较信封头中 version 字段（第 21..28 字节）
+ * 与刷新开始时读到的版本，一致时才覆盖，比较与写入在同一脚本内原子完成，避免被驱逐的数据由刷新结果重新写回。
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionedWriteSupport {
+
+    /** KEYS[1] 缓存键；ARGV[1] 期望的版本号（8 字节），ARGV[2] 新值，ARGV[3] TTL（秒），小于等于 0 表示永久 */
+    private static final String REPLACE_IF_VERSION_SCRIPT =
+            """
+            local raw = redis.call('GET', KEYS[1])
+            if not raw or string.len(raw) < 28 or string.byte(raw, 1) ~= 203 then
+              return 0
+            end
+            if string.sub(raw, 21, 28) ~= ARGV[1] then
+              return 0
+            end
+            local ttl = tonumber(ARGV[3])
+            if ttl > 0 then
+              redis.call('SET', KEYS[1], ARGV[2], 'EX', ttl)
+            else
+              redis.call('SET', KEYS[1], ARGV[2])
+            end
+            return 1
+            """;
+
+    private static final RedisScript<Long> SCRIPT =
+            RedisScript.of(REPLACE_IF_VERSION_SCRIPT, Long.class);
+
+    private final LuaScriptExecutor scriptExecutor;
+
+    /**
+     * 仅当缓存键中仍是指定版本的值时写入新值
+     *
+     * @param redisKey Redis 键
+     * @param expectedVersion 期望的版本号
+     * @param value 新值的二进制信封
+     * @param ttlSeconds TTL（秒），小于等于 0 表示永久
+     * @return 写入成功返回 true；键已删除或版本已变化返回 false
+     */
+    public boolean replaceIfVersion(
+            String redisKey, long expectedVersion, byte[] value, long ttlSeconds) {
+        byte[][] keysAndArgs = {
+            redisKey.getBytes(StandardCharsets.UTF_8),
+            ByteBuffer.allocate(Long.BYTES).putLong(expectedVersion).array(),
+            value,
+            Long.toString(ttlSeconds).getBytes(StandardCharsets.US_ASCII)
+        };
+        Long replaced = scriptExecutor.execute(SCRIPT, 1, keysAndArgs);
+        return replaced != null && replaced == 1L;
+    }
+}
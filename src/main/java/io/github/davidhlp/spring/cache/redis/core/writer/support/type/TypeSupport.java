@@ -13,12 +13,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 /** 类型转换支持工具类 集中处理各类型转换逻辑，包括： - 字节数组与字符串的转换 - JSON序列化与反序列化 - 类型安全的类型转换 */
 @Component
 @RequiredArgsConstructor
 public class TypeSupport {
 
+    private static final String NULL_VALUE_CLASS_NAME =
+            "org.springframework.cache.support.NullValue";
+
     private final ObjectMapper objectMapper;
 
     /**
@@ -41,7 +45,7 @@ public class TypeSupport {
     @Nullable
     public byte[] serializeToBytes(@NonNull Object value) {
         // 对于Spring的NullValue，使用Java序列化以保证兼容性
-        if ("org.springframework.cache.support.NullValue".equals(value.getClass().getName())) {
+        if (NULL_VALUE_CLASS_NAME.equals(value.getClass().getName())) {
             return serializeToJava(value);
         }
 
@@ -109,8 +113,7 @@ public class TypeSupport {
             Object obj = ois.readObject();
             // 如果是Spring的NullValue，返回null
             if (obj != null
-                    && "org.springframework.cache.support.NullValue"
-                            .equals(obj.getClass().getName())) {
+                    && NULL_VALUE_CLASS_NAME.equals(obj.getClass().getName())) {
                 return null;
             }
             return obj;
@@ -118,4 +121,20 @@ public class TypeSupport {
             throw new SerializationException("Failed to deserialize Java serialized value", e);
         }
     }
+
+    /**
+     * 判断序列化后的负载是否表示空值：空字节，或与缓存值序列化器对 {@code NullValue.INSTANCE} 的序列化结果逐字节相同
+     *
+     * <p>只做精确比较，不按类名等特征推测，避免恰好包含 NullValue 类名的小对象被误判为空值。
+     *
+     * @param bytes 序列化后的负载
+     * @param nullValuePayload 该缓存的空值负载，未登记时为 null，此时只有空字节视为空值
+     * @return 表示空值返回 true
+     */
+    public boolean isNullValuePayload(@Nullable byte[] bytes, @Nullable byte[] nullValuePayload) {
+        if (bytes == null || bytes.length == 0) {
+            return true;
+        }
+        return nullValuePayload != null && Arrays.equals(bytes, nullValuePayload);
+    }
 }
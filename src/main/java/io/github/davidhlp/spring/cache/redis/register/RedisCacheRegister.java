@@ -1,114 +1,59 @@
 package io.github.davidhlp.spring.cache.redis.register;
 
-import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheEvictOperation;
 import io.github.davidhlp.spring.cache.redis.register.operation.RedisCacheableOperation;
-import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategy;
-import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategyFactory;
 
-import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.interceptor.CacheOperation;
-import org.springframework.lang.NonNull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** Redis缓存注册器 使用通用淘汰策略管理缓存操作,防止内存占用过多 */
+/**
+ * Redis缓存注册器
+ *
+ * <p>注解上的缓存策略与调用参数无关，按缓存名称登记一次（模板）后由写入器按名称读取，不受淘汰影响。同一缓存名称上的策略冲突已在
+ * {@code RedisCacheOperationSource} 解析注解时拒绝，因此同名模板的策略总是一致的。
+ */
 @Slf4j
 public class RedisCacheRegister {
 
-    /** 缓存操作淘汰策略 */
-    private final EvictionStrategy<String, CacheOperation> operationStrategy;
-
-    public RedisCacheRegister() {
-        this(2048, 1024);
-    }
-
-    public RedisCacheRegister(int maxActiveSize, int maxInactiveSize) {
-        this.operationStrategy =
-                EvictionStrategyFactory.createTwoList(maxActiveSize, maxInactiveSize);
-    }
-
-    /** 注册Cacheable操作 */
-    public void registerCacheableOperation(RedisCacheableOperation cacheOperation) {
-        for (String cacheName : cacheOperation.getCacheNames()) {
-            String key = buildKey(cacheName, cacheOperation.getKey(), "CACHE");
-            operationStrategy.put(key, cacheOperation);
-            log.info(
-                    "Registered cacheable operation: cacheName={}, key={}, stats={}",
-                    cacheName,
-                    cacheOperation.getKey(),
-                    operationStrategy.getStats());
-        }
-    }
-
-    /** 注册CacheEvict操作 */
-    public void registerCacheEvictOperation(RedisCacheEvictOperation cacheOperation) {
-        for (String cacheName : cacheOperation.getCacheNames()) {
-            String key = buildKey(cacheName, cacheOperation.getKey(), "EVICT");
-            operationStrategy.put(key, cacheOperation);
-            log.info(
-                    "Registered CacheEvict operation: cacheName={}, key={}, stats={}",
-                    cacheName,
-                    cacheOperation.getKey(),
-                    operationStrategy.getStats());
-        }
-    }
-
-    /** 获取Cacheable操作 */
-    public RedisCacheableOperation getCacheableOperation(String name, String key) {
-        // 先尝试直接匹配
-        String operationKey = buildKey(name, key, "CACHE");
-        CacheOperation operation = operationStrategy.get(operationKey);
-
-        if (operation instanceof RedisCacheableOperation) {
-            return (RedisCacheableOperation) operation;
+    /** 缓存名称 -> Cacheable 策略模板 */
+    private final Map<String, RedisCacheableOperation> cacheableTemplates =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 按缓存名称注册 Cacheable 策略模板，同一缓存名称已注册时保留已有模板
+     *
+     * @param template 不含具体键的策略模板
+     * @throws IllegalStateException 同一缓存名称已注册了不同的策略
+     */
+    public void registerCacheableTemplate(RedisCacheableOperation template) {
+        for (String cacheName : template.getCacheNames()) {
+            RedisCacheableOperation existing = cacheableTemplates.putIfAbsent(cacheName, template);
+            if (existing == null) {
+                log.info(
+                        "Registered cacheable template: cacheName={}, method={}",
+                        cacheName,
+                        template.getName());
+            } else if (existing != template && !existing.hasSamePolicy(template)) {
+                throw new IllegalStateException(
+                        "Conflicting @RedisCacheable policy for cache '"
+                                + cacheName
+                                + "' declared by '"
+                                + existing.getName()
+                                + "' and '"
+                                + template.getName()
+                                + "'");
+            }
         }
-
-        // 如果直接匹配失败,遍历查找(性能较低,仅作为fallback)
-        log.debug("Direct match failed for cacheable operation: name={}, key={}", name, key);
-        return null;
     }
 
-    /** 获取CacheEvict操作 */
-    public RedisCacheEvictOperation getCacheEvictOperation(String name, String key) {
-        // 先尝试直接匹配
-        String operationKey = buildKey(name, key, "EVICT");
-        CacheOperation operation = operationStrategy.get(operationKey);
-
-        if (operation instanceof RedisCacheEvictOperation) {
-            return (RedisCacheEvictOperation) operation;
+    /** 获取Cacheable操作 返回缓存名称对应的策略模板 */
+    public RedisCacheableOperation getCacheableOperation(String name) {
+        RedisCacheableOperation template = cacheableTemplates.get(name);
+        if (template == null) {
+            log.debug("No cacheable operation registered: name={}", name);
         }
-
-        // 如果直接匹配失败,遍历查找(性能较低,仅作为fallback)
-        log.debug("Direct match failed for evict operation: name={}, key={}", name, key);
-        return null;
-    }
-
-    /** 构建操作key */
-    private String buildKey(String name, String key, String type) {
-        return String.format("%s:%s:%s", type, name, key);
+        return template;
     }
 }
 
-@Builder
-record Key(String name, String key, OperationType operationType) {
-
-    @Override
-    @NonNull
-    public String toString() {
-        return "Key{"
-                + "name='"
-                + name
-                + '\''
-                + ", key='"
-                + key
-                + '\''
-                + ", operationType="
-                + operationType
-                + '}';
-    }
-
-    public enum OperationType {
-        EVICT,
-        CACHE
-    }
-}
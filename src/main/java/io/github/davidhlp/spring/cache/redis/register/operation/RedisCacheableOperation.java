@@ -23,6 +23,10 @@ public class RedisCacheableOperation extends CacheOperation {
     private final boolean enablePreRefresh;
     private final double preRefreshThreshold;
     private final PreRefreshMode preRefreshMode;
+    private final double preRefreshBeta;
+    private final double accessSampleRate;
+    private final boolean batch;
+    private final String batchElementKey;
 
     protected RedisCacheableOperation(Builder b) {
         super(b);
@@ -39,6 +43,32 @@ public class RedisCacheableOperation extends CacheOperation {
         this.enablePreRefresh = b.enablePreRefresh;
         this.preRefreshThreshold = b.preRefreshThreshold;
         this.preRefreshMode = b.preRefreshMode;
+        this.preRefreshBeta = b.preRefreshBeta;
+        this.accessSampleRate = b.accessSampleRate;
+        this.batch = b.batch;
+        this.batchElementKey = b.batchElementKey;
+    }
+
+    /**
+     * 判断两个操作的缓存策略是否一致，忽略方法名与键
+     *
+     * @param other 另一个操作
+     * @return 策略一致返回 true
+     */
+    public boolean hasSamePolicy(RedisCacheableOperation other) {
+        return sync == other.sync
+                && syncTimeout == other.syncTimeout
+                && ttl == other.ttl
+                && useSecondLevelCache == other.useSecondLevelCache
+                && cacheNullValues == other.cacheNullValues
+                && useBloomFilter == other.useBloomFilter
+                && randomTtl == other.randomTtl
+                && Float.compare(variance, other.variance) == 0
+                && enablePreRefresh == other.enablePreRefresh
+                && Double.compare(preRefreshThreshold, other.preRefreshThreshold) == 0
+                && preRefreshMode == other.preRefreshMode
+                && Double.compare(preRefreshBeta, other.preRefreshBeta) == 0
+                && Double.compare(accessSampleRate, other.accessSampleRate) == 0;
     }
 
     public static Builder builder() {
@@ -60,6 +90,10 @@ public class RedisCacheableOperation extends CacheOperation {
         private boolean enablePreRefresh;
         private double preRefreshThreshold;
         private PreRefreshMode preRefreshMode;
+        private double preRefreshBeta = 1.0;
+        private double accessSampleRate = 1.0;
+        private boolean batch;
+        private String batchElementKey;
 
         public Builder name(String name) {
             super.setName(name);
@@ -161,6 +195,26 @@ public class RedisCacheableOperation extends CacheOperation {
             return this;
         }
 
+        public Builder preRefreshBeta(double preRefreshBeta) {
+            this.preRefreshBeta = preRefreshBeta;
+            return this;
+        }
+
+        public Builder accessSampleRate(double accessSampleRate) {
+            this.accessSampleRate = accessSampleRate;
+            return this;
+        }
+
+        public Builder batch(boolean batch) {
+            this.batch = batch;
+            return this;
+        }
+
+        public Builder batchElementKey(String batchElementKey) {
+            this.batchElementKey = batchElementKey;
+            return this;
+        }
+
         @Override
         @NonNull
         public RedisCacheableOperation build() {
@@ -1,6 +1,7 @@
 package io.github.davidhlp.spring.cache.redis.strategy.eviction;
 
 import io.github.davidhlp.spring.cache.redis.strategy.eviction.impl.TwoListEvictionStrategy;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.impl.WTinyLfuEvictionStrategy;
 
 import java.util.function.Predicate;
 
@@ -20,6 +21,7 @@ public class EvictionStrategyFactory {
         return switch (type) {
             case TWO_LIST ->
                     new TwoListEvictionStrategy<>((int) (maxSize * 0.67), (int) (maxSize * 0.33));
+            case W_TINYLFU -> new WTinyLfuEvictionStrategy<>(maxSize);
         };
     }
 
@@ -52,6 +54,18 @@ public class EvictionStrategyFactory {
         return new TwoListEvictionStrategy<>(maxActiveSize, maxInactiveSize, evictionPredicate);
     }
 
+    /**
+     * 创建W-TinyLFU淘汰策略
+     *
+     * @param maxSize 最大容量
+     * @param <K> 键类型
+     * @param <V> 值类型
+     * @return W-TinyLFU淘汰策略实例
+     */
+    public static <K, V> WTinyLfuEvictionStrategy<K, V> createWTinyLfu(int maxSize) {
+        return new WTinyLfuEvictionStrategy<>(maxSize);
+    }
+
     /**
      * 创建默认的淘汰策略(双链表)
      *
@@ -66,6 +80,8 @@ public class EvictionStrategyFactory {
     /** 淘汰策略类型 */
     public enum StrategyType {
         /** 双链表策略 */
-        TWO_LIST
+        TWO_LIST,
+        /** 准入窗口 + 频率草图 + 分段LRU */
+        W_TINYLFU
     }
 }
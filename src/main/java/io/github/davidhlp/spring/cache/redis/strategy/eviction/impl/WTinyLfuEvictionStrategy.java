@@ -0,0 +1,68 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.impl;
+
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.EvictionStrategy;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.stats.EvictionStats;
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.support.WTinyLfu;
+
+/**
+ * W-TinyLFU 淘汰策略
+ *
+ * <p>统计信息映射：active = 准入窗口 + protected 段，inactive = probation 段。
+ */
+public class WTinyLfuEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    /** 默认最大容量 */
+    private static final int DEFAULT_MAX_SIZE = 1536;
+
+    /** 核心W-TinyLFU算法实现 */
+    private final WTinyLfu<K, V> cache;
+
+    public WTinyLfuEvictionStrategy() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public WTinyLfuEvictionStrategy(int maxSize) {
+        this.cache = new WTinyLfu<>(maxSize);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public V get(K key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public V remove(K key) {
+        return cache.remove(key);
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return cache.contains(key);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public EvictionStats getStats() {
+        return new EvictionStats(
+                cache.size(),
+                cache.getWindowSize() + cache.getProtectedSize(),
+                cache.getProbationSize(),
+                cache.getMaxWindowSize() + cache.getMaxProtectedSize(),
+                cache.getMaxProbationSize(),
+                cache.getTotalEvictions());
+    }
+}
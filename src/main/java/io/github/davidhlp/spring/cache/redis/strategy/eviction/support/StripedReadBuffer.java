@@ -0,0 +1,102 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 分段的有损读缓冲区
+ *
+ * <p>读线程只做一次 CAS 记录访问，不获取任何锁；缓冲区满或发生竞争时直接丢弃该次记录（访问顺序只是近似值，丢失可接受）。
+ * 记录由持有链表写锁的线程批量回放，参考 BP-Wrapper / Caffeine 的读缓冲设计。
+ *
+ * @param <E> 元素类型
+ */
+final class StripedReadBuffer<E> {
+
+    /** 每个分段的容量，必须为 2 的幂 */
+    private static final int BUFFER_SIZE = 16;
+
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    /** 分段中待回放元素达到该数量时建议回放 */
+    private static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    StripedReadBuffer() {
+        int stripeCount =
+                ceilingPowerOfTwo(
+                        Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * 记录一次读访问
+     *
+     * @param element 被访问的元素
+     * @return true 表示分段已满或积压较多，调用方应尝试回放
+     */
+    boolean offer(E element) {
+        Stripe<E> stripe = stripes[stripeIndex()];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        long pending = tail - head;
+        if (pending >= BUFFER_SIZE) {
+            return true;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & BUFFER_MASK), element);
+            return pending + 1 >= DRAIN_THRESHOLD;
+        }
+        return false;
+    }
+
+    /**
+     * 回放所有分段中的记录（调用方必须持有链表写锁）
+     *
+     * @param consumer 回放逻辑
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & BUFFER_MASK);
+                E element = stripe.buffer.get(index);
+                if (element == null) {
+                    // 写入方已占位但尚未发布，留到下次回放
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Stripe<E> {
+        final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+    }
+}
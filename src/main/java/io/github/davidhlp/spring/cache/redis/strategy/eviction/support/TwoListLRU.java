@@ -39,6 +39,9 @@ public class TwoListLRU<K, V> {
     /** 读写锁，保证链表操作的线程安全 */
     private final ReadWriteLock listLock;
 
+    /** 读访问缓冲区，get 只记录访问，由持有写锁的线程批量回放提升 */
+    private final StripedReadBuffer<Node<K, V>> readBuffer;
+
     /** 当前Active List大小 */
     private int activeSize;
 
@@ -74,6 +77,7 @@ public class TwoListLRU<K, V> {
 
         this.nodeMap = new ConcurrentHashMap<>();
         this.listLock = new ReentrantReadWriteLock();
+        this.readBuffer = new StripedReadBuffer<>();
 
         // 初始化Active List双向链表
         this.activeHead = new Node<>(null, null);
@@ -106,6 +110,7 @@ public class TwoListLRU<K, V> {
 
         listLock.writeLock().lock();
         try {
+            drainReadBufferUnsafe();
             Node<K, V> existingNode = nodeMap.get(key);
             if (existingNode != null) {
                 // 更新值并提升优先级
@@ -139,6 +144,41 @@ public class TwoListLRU<K, V> {
         }
     }
 
+    /**
+     * 键不存在时添加元素
+     *
+     * @param key 键
+     * @param value 值
+     * @return 键当前关联的值（已存在的值或新添加的 value）；所有节点受保护导致无法添加时返回null
+     */
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        listLock.writeLock().lock();
+        try {
+            drainReadBufferUnsafe();
+            Node<K, V> existingNode = nodeMap.get(key);
+            if (existingNode != null) {
+                promoteNodeUnsafe(existingNode);
+                return existingNode.value;
+            }
+
+            Node<K, V> newNode = new Node<>(key, value);
+            if (!addToActiveHeadUnsafe(newNode)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to add entry, all entries are protected: key={}", key);
+                }
+                return null;
+            }
+            nodeMap.put(key, newNode);
+            return value;
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
     /**
      * 获取元素
      *
@@ -155,8 +195,10 @@ public class TwoListLRU<K, V> {
             return null;
         }
 
-        // 提升访问优先级
-        promoteNodeSafe(node);
+        // 仅记录访问，提升操作延迟到持有写锁时批量回放
+        if (readBuffer.offer(node)) {
+            tryDrainReadBuffer();
+        }
         return node.value;
     }
 
@@ -173,6 +215,7 @@ public class TwoListLRU<K, V> {
 
         listLock.writeLock().lock();
         try {
+            drainReadBufferUnsafe();
             Node<K, V> node = nodeMap.remove(key);
             if (node == null) {
                 return null;
@@ -263,6 +306,7 @@ public class TwoListLRU<K, V> {
     public void clear() {
         listLock.writeLock().lock();
         try {
+            readBuffer.drainTo(node -> {});
             nodeMap.clear();
 
             // 重置Active List
@@ -283,20 +327,28 @@ public class TwoListLRU<K, V> {
         }
     }
 
-    /**
-     * 提升节点优先级（线程安全版本）
-     *
-     * @param node 待提升的节点
-     */
-    private void promoteNodeSafe(Node<K, V> node) {
-        listLock.writeLock().lock();
-        try {
-            promoteNodeUnsafe(node);
-        } finally {
-            listLock.writeLock().unlock();
+    /** 尝试回放读缓冲区，写锁被占用时直接返回，由持锁线程负责回放 */
+    private void tryDrainReadBuffer() {
+        if (listLock.writeLock().tryLock()) {
+            try {
+                drainReadBufferUnsafe();
+            } finally {
+                listLock.writeLock().unlock();
+            }
         }
     }
 
+    /** 回放读缓冲区中记录的访问（非线程安全，需要持有写锁） */
+    private void drainReadBufferUnsafe() {
+        readBuffer.drainTo(
+                node -> {
+                    // 跳过回放前已被移除或淘汰的节点
+                    if (node.prev != null && nodeMap.get(node.key) == node) {
+                        promoteNodeUnsafe(node);
+                    }
+                });
+    }
+
     /**
      * 提升节点优先级（非线程安全，需要持有写锁）
      *
@@ -398,11 +450,13 @@ public class TwoListLRU<K, V> {
             candidate = candidate.prev;
         }
 
-        // 所有节点都受保护
-        log.warn(
-                "All entries in active list are protected, cannot free space. activeSize={}, maxActiveSize={}",
-                activeSize,
-                maxActiveSize);
+        // 所有节点都受保护，由调用方根据返回值处理（例如锁池等待有锁释放），避免每次尝试都输出告警
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "All entries in active list are protected, cannot free space. activeSize={}, maxActiveSize={}",
+                    activeSize,
+                    maxActiveSize);
+        }
         return true;
     }
 
@@ -458,11 +512,13 @@ public class TwoListLRU<K, V> {
             candidate = candidate.prev;
         }
 
-        // 所有节点都受保护
-        log.warn(
-                "All entries in inactive list are protected, cannot evict. inactiveSize={}, maxInactiveSize={}",
-                inactiveSize,
-                maxInactiveSize);
+        // 所有节点都受保护，由调用方根据返回值处理
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "All entries in inactive list are protected, cannot evict. inactiveSize={}, maxInactiveSize={}",
+                    inactiveSize,
+                    maxInactiveSize);
+        }
         return false;
     }
 
@@ -518,7 +574,7 @@ public class TwoListLRU<K, V> {
     @Getter
     static class Node<K, V> {
         final K key;
-        V value;
+        volatile V value;
         Node<K, V> prev;
         Node<K, V> next;
         boolean isActive; // true=Active List, false=Inactive List
@@ -0,0 +1,376 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU 淘汰算法实现
+ *
+ * <p>新元素先进入容量约 1% 的 LRU 准入窗口；窗口溢出的元素作为候选者，与主区域 probation 段最老的元素比较
+ * {@link FrequencySketch} 估算的访问频率，频率更高者留下。主区域为分段 LRU：probation 段中再次被访问的元素晋升到
+ * protected 段（约占主区域 80%），protected 段溢出时最老元素降回 probation。
+ *
+ * <p>读操作与 {@link TwoListLRU} 一样只记录到 {@link StripedReadBuffer}，由持锁线程批量回放。
+ */
+@Slf4j
+public class WTinyLfu<K, V> {
+
+    private final int maxWindowSize;
+    private final int maxProtectedSize;
+    private final int maxMainSize;
+
+    private final ConcurrentHashMap<K, Node<K, V>> nodeMap;
+    private final ReentrantLock evictionLock;
+    private final StripedReadBuffer<Node<K, V>> readBuffer;
+    private final FrequencySketch<K> sketch;
+
+    private final AccessQueue<K, V> window;
+    private final AccessQueue<K, V> probation;
+    private final AccessQueue<K, V> protectedQueue;
+
+    private long totalEvictions;
+
+    public WTinyLfu(int maximumSize) {
+        if (maximumSize <= 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 1");
+        }
+        this.maxWindowSize = Math.max(1, maximumSize / 100);
+        this.maxMainSize = maximumSize - maxWindowSize;
+        this.maxProtectedSize = Math.max(1, (int) (maxMainSize * 0.8));
+
+        this.nodeMap = new ConcurrentHashMap<>();
+        this.evictionLock = new ReentrantLock();
+        this.readBuffer = new StripedReadBuffer<>();
+        this.sketch = new FrequencySketch<>(maximumSize);
+
+        this.window = new AccessQueue<>();
+        this.probation = new AccessQueue<>();
+        this.protectedQueue = new AccessQueue<>();
+    }
+
+    /**
+     * 添加或更新元素
+     *
+     * @param key 键
+     * @param value 值
+     */
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        evictionLock.lock();
+        try {
+            drainReadBufferUnsafe();
+            sketch.increment(key);
+
+            Node<K, V> existing = nodeMap.get(key);
+            if (existing != null) {
+                existing.value = value;
+                onAccessUnsafe(existing);
+                return;
+            }
+
+            Node<K, V> node = new Node<>(key, value);
+            nodeMap.put(key, node);
+            window.addLast(node);
+            node.segment = Segment.WINDOW;
+            evictUnsafe();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 获取元素
+     *
+     * @param key 键
+     * @return 值，不存在返回null
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = nodeMap.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (readBuffer.offer(node)) {
+            tryDrainReadBuffer();
+        }
+        return node.value;
+    }
+
+    /**
+     * 移除元素
+     *
+     * @param key 键
+     * @return 被移除的值，不存在返回null
+     */
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBufferUnsafe();
+            Node<K, V> node = nodeMap.remove(key);
+            if (node == null) {
+                return null;
+            }
+            queueOf(node).remove(node);
+            node.segment = null;
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public boolean contains(K key) {
+        return key != null && nodeMap.containsKey(key);
+    }
+
+    public int size() {
+        return nodeMap.size();
+    }
+
+    /** 清空所有元素 */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            readBuffer.drainTo(node -> {});
+            nodeMap.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getWindowSize() {
+        evictionLock.lock();
+        try {
+            return window.size;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getProbationSize() {
+        evictionLock.lock();
+        try {
+            return probation.size;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getProtectedSize() {
+        evictionLock.lock();
+        try {
+            return protectedQueue.size;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getTotalEvictions() {
+        evictionLock.lock();
+        try {
+            return totalEvictions;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getMaxWindowSize() {
+        return maxWindowSize;
+    }
+
+    public int getMaxProtectedSize() {
+        return maxProtectedSize;
+    }
+
+    public int getMaxProbationSize() {
+        return maxMainSize - maxProtectedSize;
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBufferUnsafe();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBufferUnsafe() {
+        readBuffer.drainTo(
+                node -> {
+                    // 跳过回放前已被移除或淘汰的节点
+                    if (node.segment != null && nodeMap.get(node.key) == node) {
+                        sketch.increment(node.key);
+                        onAccessUnsafe(node);
+                    }
+                });
+    }
+
+    /** 根据所在分段调整访问顺序（需要持有锁） */
+    private void onAccessUnsafe(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedQueue.addLast(node);
+                node.segment = Segment.PROTECTED;
+                demoteProtectedUnsafe();
+            }
+            case PROTECTED -> protectedQueue.moveToLast(node);
+        }
+    }
+
+    /** protected 段溢出时将最老元素降回 probation（需要持有锁） */
+    private void demoteProtectedUnsafe() {
+        while (protectedQueue.size > maxProtectedSize) {
+            Node<K, V> demoted = protectedQueue.pollFirst();
+            probation.addLast(demoted);
+            demoted.segment = Segment.PROBATION;
+        }
+    }
+
+    /** 窗口溢出的元素进入主区域，主区域超限时按频率淘汰候选者或受害者（需要持有锁） */
+    private void evictUnsafe() {
+        while (window.size > maxWindowSize) {
+            Node<K, V> candidate = window.pollFirst();
+            probation.addLast(candidate);
+            candidate.segment = Segment.PROBATION;
+
+            if (probation.size + protectedQueue.size <= maxMainSize) {
+                continue;
+            }
+
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == candidate) {
+                // probation 段只剩候选者，从 protected 段补充受害者
+                demoteOldestProtectedUnsafe();
+                victim = probation.peekFirst();
+            }
+            Node<K, V> evicted =
+                    sketch.frequency(candidate.key) > sketch.frequency(victim.key)
+                            ? victim
+                            : candidate;
+            evictNodeUnsafe(evicted);
+        }
+    }
+
+    private void demoteOldestProtectedUnsafe() {
+        Node<K, V> demoted = protectedQueue.pollFirst();
+        if (demoted != null) {
+            probation.addFirst(demoted);
+            demoted.segment = Segment.PROBATION;
+        }
+    }
+
+    private void evictNodeUnsafe(Node<K, V> node) {
+        probation.remove(node);
+        node.segment = null;
+        nodeMap.remove(node.key, node);
+        totalEvictions++;
+        if (log.isDebugEnabled()) {
+            log.debug("Evicted entry: key={}, totalEvictions={}", node.key, totalEvictions);
+        }
+    }
+
+    private AccessQueue<K, V> queueOf(Node<K, V> node) {
+        return switch (node.segment) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedQueue;
+        };
+    }
+
+    enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Segment segment;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /** 带哨兵的双向访问队列，头部最老，尾部最新（非线程安全） */
+    private static final class AccessQueue<K, V> {
+        private final Node<K, V> head = new Node<>(null, null);
+        private final Node<K, V> tail = new Node<>(null, null);
+        private int size;
+
+        AccessQueue() {
+            head.next = tail;
+            tail.prev = head;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail.prev;
+            node.next = tail;
+            tail.prev.next = node;
+            tail.prev = node;
+            size++;
+        }
+
+        void addFirst(Node<K, V> node) {
+            node.prev = head;
+            node.next = head.next;
+            head.next.prev = node;
+            head.next = node;
+            size++;
+        }
+
+        Node<K, V> peekFirst() {
+            return head.next == tail ? null : head.next;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> first = peekFirst();
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail.prev == node) {
+                return;
+            }
+            remove(node);
+            addLast(node);
+        }
+
+        void remove(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void clear() {
+            head.next = tail;
+            tail.prev = head;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.davidhlp.spring.cache.redis.core.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.davidhlp.spring.cache.redis.config.JacksonConfig;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.type.SerializationException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class CachedValueCodecTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final CachedValueCodec codec = new CachedValueCodec(objectMapper);
+
+    private static CachedValue payloadValue(byte[] payload, long computeMillis) {
+        return CachedValue.builder()
+                .payload(payload)
+                .type(byte[].class)
+                .createdTime(System.currentTimeMillis())
+                .ttl(60)
+                .version(42)
+                .computeMillis(computeMillis)
+                .build();
+    }
+
+    @Test
+    void roundTripsFormatOne() {
+        byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+        CachedValue original = payloadValue(payload, 0);
+
+        byte[] encoded = codec.encode(original);
+
+        assertThat(encoded).hasSize(CachedValueCodec.HEADER_LENGTH + payload.length);
+        assertThat(encoded[0]).isEqualTo(CachedValueCodec.MAGIC);
+        assertThat(encoded[1]).isEqualTo(CachedValueCodec.FORMAT_V1);
+        assertThat(codec.isBinaryEnvelope(encoded)).isTrue();
+
+        CachedValue decoded = codec.decode(encoded);
+        assertThat(decoded.getPayload()).isEqualTo(payload);
+        assertThat(decoded.getCreatedTime()).isEqualTo(original.getCreatedTime());
+        assertThat(decoded.getTtl()).isEqualTo(60);
+        assertThat(decoded.getVersion()).isEqualTo(42);
+        assertThat(decoded.getComputeMillis()).isZero();
+        assertThat(decoded.isExpired()).isFalse();
+    }
+
+    @Test
+    void roundTripsFormatTwo() {
+        byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+        CachedValue original = payloadValue(payload, 250);
+
+        byte[] encoded = codec.encode(original);
+
+        assertThat(encoded).hasSize(CachedValueCodec.HEADER_LENGTH_V2 + payload.length);
+        assertThat(encoded[1]).isEqualTo(CachedValueCodec.FORMAT_V2);
+
+        CachedValue decoded = codec.decode(encoded);
+        assertThat(decoded.getPayload()).isEqualTo(payload);
+        assertThat(decoded.getCreatedTime()).isEqualTo(original.getCreatedTime());
+        assertThat(decoded.getTtl()).isEqualTo(60);
+        assertThat(decoded.getVersion()).isEqualTo(42);
+        assertThat(decoded.getComputeMillis()).isEqualTo(250);
+    }
+
+    @Test
+    void preservesExpiredFlag() {
+        CachedValue original = payloadValue(new byte[] {1, 2, 3}, 0);
+        original.markExpired();
+
+        byte[] encoded = codec.encode(original);
+
+        assertThat(encoded[2]).isEqualTo((byte) 1);
+        assertThat(codec.decode(encoded).isExpired()).isTrue();
+    }
+
+    @Test
+    void roundTripsEmptyPayload() {
+        byte[] encoded = codec.encode(payloadValue(new byte[0], 0));
+
+        assertThat(encoded).hasSize(CachedValueCodec.HEADER_LENGTH);
+        assertThat(codec.decode(encoded).getPayload()).isEmpty();
+    }
+
+    @Test
+    void rejectsMissingPayload() {
+        CachedValue value = CachedValue.of("hello", 60);
+
+        assertThatThrownBy(() -> codec.encode(value)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void readsLegacyJson() {
+        byte[] legacy =
+                new GenericJackson2JsonRedisSerializer(objectMapper)
+                        .serialize(CachedValue.of("hello", 60));
+
+        assertThat(codec.isBinaryEnvelope(legacy)).isFalse();
+
+        CachedValue decoded = codec.decode(legacy);
+        assertThat(decoded.getValue()).isEqualTo("hello");
+        assertThat(decoded.getTtl()).isEqualTo(60);
+        assertThat(decoded.hasPayload()).isFalse();
+    }
+
+    @Test
+    void ignoresUnrecognizedLegacyValues() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer(objectMapper).serialize("plain");
+
+        assertThat(codec.decode(legacy)).isNull();
+    }
+
+    @Test
+    void truncatedFormatTwoHeaderIsNotAnEnvelope() {
+        byte[] encoded = codec.encode(payloadValue(new byte[0], 250));
+        byte[] truncated = Arrays.copyOf(encoded, CachedValueCodec.HEADER_LENGTH_V2 - 1);
+
+        assertThat(codec.isBinaryEnvelope(encoded)).isTrue();
+        assertThat(codec.isBinaryEnvelope(truncated)).isFalse();
+    }
+
+    @Test
+    void emptyInputDecodesToNull() {
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode(new byte[0])).isNull();
+    }
+}
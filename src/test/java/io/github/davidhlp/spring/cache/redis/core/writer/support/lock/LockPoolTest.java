@@ -0,0 +1,148 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.davidhlp.spring.cache.redis.strategy.eviction.stats.LockPoolStats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+class LockPoolTest {
+
+    @Test
+    void sameKeyReusesThePooledLock() throws InterruptedException {
+        LockPool pool = new LockPool(new LockPoolConfig(4, 4));
+
+        ReentrantLock first = pool.tryAcquire("a", 100, TimeUnit.MILLISECONDS);
+        pool.release(first);
+        ReentrantLock second = pool.tryAcquire("a", 100, TimeUnit.MILLISECONDS);
+        pool.release(second);
+
+        assertThat(second).isSameAs(first);
+        LockPoolStats stats = pool.getStats();
+        assertThat(stats.totalAcquires()).isEqualTo(2);
+        assertThat(stats.totalReleases()).isEqualTo(2);
+        assertThat(stats.cacheMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void heldLockExcludesOtherThreads() throws Exception {
+        LockPool pool = new LockPool(new LockPoolConfig(4, 4));
+        ReentrantLock held = pool.tryAcquire("a", 100, TimeUnit.MILLISECONDS);
+
+        ReentrantLock contended =
+                CompletableFuture.supplyAsync(() -> acquire(pool, "a", 50)).get(5, TimeUnit.SECONDS);
+
+        assertThat(held).isNotNull();
+        assertThat(contended).isNull();
+        pool.release(held);
+    }
+
+    @Test
+    void idleLocksAreEvictedBeyondCapacity() throws InterruptedException {
+        LockPool pool = new LockPool(new LockPoolConfig(2, 1));
+        for (String key : new String[] {"a", "b", "c", "d", "e"}) {
+            pool.release(pool.tryAcquire(key, 100, TimeUnit.MILLISECONDS));
+        }
+
+        LockPoolStats stats = pool.getStats();
+        assertThat(stats.totalSize()).isEqualTo(3);
+        assertThat(stats.totalEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    void heldLocksAreNeverEvicted() throws Exception {
+        LockPool pool = new LockPool(new LockPoolConfig(1, 1));
+        ReentrantLock held = pool.tryAcquire("a", 100, TimeUnit.MILLISECONDS);
+
+        // 池中唯一的活跃锁被持有，无法为新键腾出空间
+        ReentrantLock other =
+                CompletableFuture.supplyAsync(() -> acquire(pool, "b", 20)).get(5, TimeUnit.SECONDS);
+        assertThat(other).isNull();
+        assertThat(pool.getStats().totalEvictions()).isZero();
+
+        pool.release(held);
+        ReentrantLock afterRelease = pool.tryAcquire("b", 100, TimeUnit.MILLISECONDS);
+        assertThat(afterRelease).isNotNull();
+        pool.release(afterRelease);
+        assertThat(pool.getStats().totalSize()).isEqualTo(2);
+    }
+
+    @Test
+    void waiterGetsCapacityOnceALockIsReleased() throws Exception {
+        LockPool pool = new LockPool(new LockPoolConfig(1, 1));
+        ReentrantLock held = pool.tryAcquire("a", 100, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<ReentrantLock> waiter =
+                CompletableFuture.supplyAsync(() -> acquire(pool, "b", 5_000));
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+        pool.release(held);
+
+        ReentrantLock acquired = waiter.get(5, TimeUnit.SECONDS);
+        assertThat(acquired).isNotNull();
+        assertThat(acquired.isLocked()).isTrue();
+    }
+
+    @Test
+    void oneHolderPerKeyUnderEvictionPressure() throws InterruptedException {
+        LockPool pool = new LockPool(new LockPoolConfig(2, 2));
+        ConcurrentHashMap<String, AtomicInteger> holders = new ConcurrentHashMap<>();
+        AtomicInteger violations = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(
+                    () -> {
+                        try {
+                            for (int i = 0; i < 500; i++) {
+                                String key = "key-" + ((thread + i) % 6);
+                                ReentrantLock lock = pool.tryAcquire(key, 1, TimeUnit.SECONDS);
+                                if (lock == null) {
+                                    continue;
+                                }
+                                AtomicInteger count =
+                                        holders.computeIfAbsent(key, k -> new AtomicInteger());
+                                if (count.incrementAndGet() > 1) {
+                                    violations.incrementAndGet();
+                                }
+                                acquired.incrementAndGet();
+                                count.decrementAndGet();
+                                pool.release(lock);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(violations.get()).isZero();
+        assertThat(acquired.get()).isPositive();
+        assertThat(pool.getStats().totalSize()).isLessThanOrEqualTo(4);
+    }
+
+    private static ReentrantLock acquire(LockPool pool, String key, long timeoutMillis) {
+        try {
+            return pool.tryAcquire(key, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.BloomFilterConfig;
+import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.strategy.Murmur3BloomHashStrategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class LocalBloomIFilterTest {
+
+    private static LocalBloomIFilter filter(int bitSize) {
+        return new LocalBloomIFilter(
+                new BloomFilterConfig("bf:", bitSize, 3), new Murmur3BloomHashStrategy());
+    }
+
+    @Test
+    void containsOnlyAddedKeys() {
+        LocalBloomIFilter filter = filter(1 << 20);
+
+        assertThat(filter.mightContain("users", "user:1")).isFalse();
+        filter.add("users", "user:1");
+
+        assertThat(filter.mightContain("users", "user:1")).isTrue();
+        assertThat(filter.mightContain("users", "user:2")).isFalse();
+        assertThat(filter.mightContain("orders", "user:1")).isFalse();
+    }
+
+    @Test
+    void ignoresNullArguments() {
+        LocalBloomIFilter filter = filter(1024);
+
+        filter.add(null, "k");
+        filter.add("users", null);
+
+        assertThat(filter.mightContain(null, "k")).isFalse();
+        assertThat(filter.mightContain("users", null)).isFalse();
+    }
+
+    @Test
+    void clearDropsOnlyTheGivenCache() {
+        LocalBloomIFilter filter = filter(1 << 20);
+        filter.add("users", "k");
+        filter.add("orders", "k");
+
+        filter.clear("users");
+
+        assertThat(filter.mightContain("users", "k")).isFalse();
+        assertThat(filter.mightContain("orders", "k")).isTrue();
+    }
+
+    @Test
+    void bitSizeNotAlignedToWordsIsSupported() {
+        LocalBloomIFilter filter = filter(100);
+        for (int i = 0; i < 500; i++) {
+            filter.add("users", "user:" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(filter.mightContain("users", "user:" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void concurrentAddsDoNotLoseBits() throws InterruptedException {
+        // 位数组较小，使大量位落在同一个 long 上，检验 CAS 置位不会互相覆盖
+        LocalBloomIFilter filter = filter(4096);
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            pool.execute(
+                    () -> {
+                        try {
+                            start.await();
+                            for (int i = 0; i < perThread; i++) {
+                                filter.add("users", "user:" + thread + ":" + i);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assertThat(filter.mightContain("users", "user:" + t + ":" + i)).isTrue();
+            }
+        }
+        assertThat(filter.mightContainAll("users", List.of("user:0:0", "user:7:199")))
+                .containsExactly(true, true);
+    }
+}
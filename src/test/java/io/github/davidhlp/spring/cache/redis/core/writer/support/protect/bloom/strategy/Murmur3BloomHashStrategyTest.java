@@ -0,0 +1,71 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.davidhlp.spring.cache.redis.core.writer.support.protect.bloom.BloomFilterConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+class Murmur3BloomHashStrategyTest {
+
+    private final BloomFilterConfig config = new BloomFilterConfig("bf:", 1 << 20, 5);
+    private final Murmur3BloomHashStrategy strategy = new Murmur3BloomHashStrategy();
+
+    @Test
+    void positionsAreDeterministicAndInRange() {
+        int[] first = strategy.positionsFor("user:42", config);
+        int[] second = strategy.positionsFor("user:42", config);
+
+        assertThat(first).hasSize(5).containsExactly(second);
+        assertThat(IntStream.of(first)).allMatch(position -> position >= 0 && position < 1 << 20);
+    }
+
+    @Test
+    void differentKeysMapToDifferentPositions() {
+        assertThat(strategy.positionsFor("user:1", config))
+                .isNotEqualTo(strategy.positionsFor("user:2", config));
+        assertThat(strategy.positionsFor("ab", config))
+                .isNotEqualTo(strategy.positionsFor("ba", config));
+    }
+
+    @Test
+    void everyKeyLengthStaysInRange() {
+        BloomFilterConfig small = new BloomFilterConfig("bf:", 1000, 7);
+        StringBuilder key = new StringBuilder();
+        for (int length = 0; length <= 40; length++) {
+            int[] positions = strategy.positionsFor(key.toString(), small);
+            assertThat(positions).hasSize(7);
+            assertThat(IntStream.of(positions)).allMatch(position -> position >= 0 && position < 1000);
+            key.append((char) ('a' + length % 26));
+        }
+    }
+
+    @Test
+    void reusedBufferMatchesAllocatingVariant() {
+        int[] buffer = new int[8];
+        Arrays.fill(buffer, -1);
+
+        for (String key : new String[] {"", "a", "user:42", "订单:1001", "a-much-longer-key-than-sixteen-chars"}) {
+            int count = strategy.positionsFor(key, config, buffer);
+
+            assertThat(count).isEqualTo(5);
+            assertThat(Arrays.copyOf(buffer, count)).containsExactly(strategy.positionsFor(key, config));
+        }
+        assertThat(buffer[5]).isEqualTo(-1);
+    }
+
+    @Test
+    void nullKeyYieldsNoPositions() {
+        assertThat(strategy.positionsFor(null, config)).isEmpty();
+        assertThat(strategy.positionsFor(null, config, new int[5])).isZero();
+    }
+
+    @Test
+    void doesNotReuseLegacyPositions() {
+        assertThat(strategy.matchesLegacyPositions()).isFalse();
+        assertThat(new MessageDigestBloomHashStrategy().matchesLegacyPositions()).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimerWheelTest {
+
+    @Test
+    void firesAtTheDeadlineTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 0);
+        wheel.schedule("a", 50);
+
+        assertThat(wheel.advance(40)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(50)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(1_000)).isEmpty();
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 1_000);
+        wheel.schedule("late", 0);
+
+        assertThat(wheel.advance(1_009)).isEmpty();
+        assertThat(wheel.advance(1_010)).containsExactly("late");
+    }
+
+    @Test
+    void cancelledItemNeverFires() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 0);
+        HierarchicalTimerWheel.Node<String> node = wheel.schedule("a", 50);
+        wheel.schedule("b", 50);
+
+        wheel.cancel(node);
+        wheel.cancel(node);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(100)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelAfterFiringHasNoEffect() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 0);
+        HierarchicalTimerWheel.Node<String> node = wheel.schedule("a", 10);
+        wheel.advance(10);
+
+        wheel.cancel(node);
+
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesFromHigherLevelsInDeadlineOrder() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 0);
+        wheel.schedule("c", 900);
+        wheel.schedule("a", 30);
+        wheel.schedule("b", 700);
+
+        assertThat(wheel.advance(1_000)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void eachLevelFiresExactlyOnTime() {
+        // 分别落在第 0、1、2、3 层
+        long[] deadlines = {500, 5_000, 500_000, 20_000_000};
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(10, 0);
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        for (long deadline : deadlines) {
+            assertThat(wheel.advance(deadline - 10)).isEmpty();
+            assertThat(wheel.advance(deadline)).containsExactly(deadline);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlineBeyondTheMaximumSpanStillFires() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1, 0);
+        long span = 1L << (6 * HierarchicalTimerWheel.LEVELS);
+        long deadline = span + span / 4;
+        wheel.schedule("far", deadline);
+
+        assertThat(wheel.advance(deadline - 1)).isEmpty();
+        assertThat(wheel.advance(deadline)).containsExactly("far");
+    }
+}
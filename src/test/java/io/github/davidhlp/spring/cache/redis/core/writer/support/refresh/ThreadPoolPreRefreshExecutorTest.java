@@ -0,0 +1,209 @@
+package io.github.davidhlp.spring.cache.redis.core.writer.support.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class ThreadPoolPreRefreshExecutorTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private ThreadPoolPreRefreshExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolPreRefreshExecutor executor(
+            int concurrency, int queueCapacity, PreRefreshOverflowPolicy overflowPolicy) {
+        executor =
+                new ThreadPoolPreRefreshExecutor(
+                        new PreRefreshExecutorConfig(
+                                environment, concurrency, queueCapacity, overflowPolicy, 10, 50, false));
+        return executor;
+    }
+
+    private PreRefreshStats stats(String cacheName) {
+        return executor.getBulkheadStats().stream()
+                .filter(stats -> stats.cacheName().equals(cacheName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Runnable blockUntil(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void limitsConcurrencyAndQueueAndDropsOverflow() throws InterruptedException {
+        executor(1, 1, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+        AtomicInteger droppedRuns = new AtomicInteger();
+
+        executor.submit("users", "k1", 1, blockUntil(started, release));
+        executor.submit("users", "k2", 1, queuedRan::countDown);
+        executor.submit("users", "k3", 1, droppedRuns::incrementAndGet);
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        PreRefreshStats stats = stats("users");
+        assertThat(stats.running()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isEqualTo(1);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(queuedRan.await(5, TimeUnit.SECONDS)).isTrue();
+        await(() -> stats("users").completed() == 2);
+        assertThat(stats("users").running()).isZero();
+        assertThat(droppedRuns.get()).isZero();
+        assertThat(executor.getActiveCount()).isZero();
+    }
+
+    @Test
+    void saturatedCacheDoesNotBlockOtherCaches() throws InterruptedException {
+        executor(1, 0, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+
+        executor.submit("slow", "s1", 1, blockUntil(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("fast", "f1", 1, otherRan::countDown);
+
+        assertThat(otherRan.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void duplicateKeyIsSubmittedOnce() throws InterruptedException {
+        executor(1, 1, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger duplicates = new AtomicInteger();
+
+        executor.submit("users", "k", 1, blockUntil(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("users", "k", 1, duplicates::incrementAndGet);
+
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(stats("users").queueDepth()).isZero();
+        release.countDown();
+        await(() -> executor.getActiveCount() == 0);
+        assertThat(duplicates.get()).isZero();
+    }
+
+    @Test
+    void hotterQueuedKeysRunFirst() throws InterruptedException {
+        executor(1, 10, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        executor.submit("users", "blocker", 1, blockUntil(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("users", "cold", 1, () -> order.add("cold"));
+        executor.submit("users", "warm", 5, () -> order.add("warm"));
+        executor.submit("users", "hot", 3, () -> order.add("hot"));
+        // 排队期间再次触发会累加热度
+        executor.submit("users", "hot", 3, () -> order.add("hot-duplicate"));
+
+        release.countDown();
+        await(() -> order.size() == 3);
+        assertThat(order).containsExactly("hot", "warm", "cold");
+    }
+
+    @Test
+    void cancelRemovesQueuedTask() throws InterruptedException {
+        executor(1, 1, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+
+        executor.submit("users", "blocker", 1, blockUntil(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("users", "queued", 1, cancelledRuns::incrementAndGet);
+
+        executor.cancel("queued");
+
+        assertThat(stats("users").queueDepth()).isZero();
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        release.countDown();
+        await(() -> executor.getActiveCount() == 0);
+        assertThat(cancelledRuns.get()).isZero();
+    }
+
+    @Test
+    void deferPolicyRetriesUntilCapacityFrees() throws InterruptedException {
+        executor(1, 0, PreRefreshOverflowPolicy.DEFER);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch deferredRan = new CountDownLatch(1);
+
+        executor.submit("users", "blocker", 1, blockUntil(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("users", "deferred", 1, deferredRan::countDown);
+        await(() -> stats("users").deferred() > 0);
+
+        release.countDown();
+        assertThat(deferredRan.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stats("users").rejected()).isZero();
+    }
+
+    @Test
+    void perCacheOverridesApply() {
+        environment.setProperty("spring.resiCache.pre-refresh.caches.orders.concurrency", "4");
+        executor(1, 1, PreRefreshOverflowPolicy.DROP);
+
+        executor.submit("orders", "k", 1, () -> {});
+        executor.submit("users", "k2", 1, () -> {});
+
+        assertThat(stats("orders").concurrency()).isEqualTo(4);
+        assertThat(stats("users").concurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void failedTaskReleasesItsPermit() throws InterruptedException {
+        executor(1, 0, PreRefreshOverflowPolicy.DROP);
+        CountDownLatch nextRan = new CountDownLatch(1);
+
+        executor.submit(
+                "users",
+                "broken",
+                1,
+                () -> {
+                    throw new IllegalStateException("boom");
+                });
+        await(() -> stats("users").failed() == 1 && stats("users").running() == 0);
+        executor.submit("users", "next", 1, nextRan::countDown);
+
+        assertThat(nextRan.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+    @Test
+    void unseenElementHasZeroFrequency() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(1024);
+
+        assertThat(sketch.frequency("missing")).isZero();
+    }
+
+    @Test
+    void countsIncrementsUpToTheCounterLimit() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(1024);
+
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("a");
+        }
+        assertThat(sketch.frequency("a")).isEqualTo(3);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("a");
+        }
+        assertThat(sketch.frequency("a")).isEqualTo(15);
+    }
+
+    @Test
+    void estimateNeverUndercounts() {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>(512);
+        for (int i = 0; i < 512; i++) {
+            for (int n = 0; n <= i % 5; n++) {
+                sketch.increment(i);
+            }
+        }
+
+        for (int i = 0; i < 512; i++) {
+            assertThat(sketch.frequency(i)).isGreaterThanOrEqualTo(i % 5 + 1);
+        }
+    }
+
+    @Test
+    void halvesAllCountersAfterSampleSizeAdditions() {
+        int maximumSize = 16;
+        FrequencySketch<String> sketch = new FrequencySketch<>(maximumSize);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+        assertThat(sketch.frequency("hot")).isEqualTo(15);
+
+        // 采样阈值为容量的 10 倍，计数达到阈值后整体减半
+        int additions = 0;
+        while (sketch.frequency("hot") == 15 && additions < 20 * maximumSize) {
+            sketch.increment("cold-" + additions);
+            additions++;
+        }
+
+        assertThat(additions).isLessThanOrEqualTo(10 * maximumSize);
+        assertThat(sketch.frequency("hot")).isEqualTo(7);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class StripedReadBufferTest {
+
+    @Test
+    void drainsRecordedElementsInOrderOnce() {
+        StripedReadBuffer<Integer> buffer = new StripedReadBuffer<>();
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained::add);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+
+        drained.clear();
+        buffer.drainTo(drained::add);
+        assertThat(drained).isEmpty();
+    }
+
+    @Test
+    void requestsDrainOnBacklogAndDropsWhenFull() {
+        StripedReadBuffer<Integer> buffer = new StripedReadBuffer<>();
+        for (int i = 0; i < 7; i++) {
+            assertThat(buffer.offer(i)).isFalse();
+        }
+        assertThat(buffer.offer(7)).isTrue();
+        for (int i = 8; i < 40; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained::add);
+        assertThat(drained).hasSize(16).startsWith(0, 1, 2).endsWith(15);
+
+        assertThat(buffer.offer(99)).isFalse();
+    }
+
+    @Test
+    void concurrentOffersAreNeverDuplicated() throws InterruptedException {
+        StripedReadBuffer<Integer> buffer = new StripedReadBuffer<>();
+        int threads = 8;
+        int perThread = 1_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            pool.execute(
+                    () -> {
+                        for (int i = 0; i < perThread; i++) {
+                            buffer.offer(base + i);
+                        }
+                        done.countDown();
+                    });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained::add);
+        Set<Integer> unique = new HashSet<>(drained);
+        assertThat(unique).hasSameSizeAs(drained);
+        assertThat(drained).isNotEmpty().allMatch(value -> value >= 0 && value < threads * perThread);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TwoListLRUTest {
+
+    @Test
+    void rejectsNonPositiveSizes() {
+        assertThatThrownBy(() -> new TwoListLRU<String, String>(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TwoListLRU<String, String>(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNullKey() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+
+        assertThatThrownBy(() -> lru.put(null, "v")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lru.putIfAbsent(null, "v"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(lru.get(null)).isNull();
+    }
+
+    @Test
+    void putGetAndRemove() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+
+        assertThat(lru.put("a", "1")).isTrue();
+        assertThat(lru.get("a")).isEqualTo("1");
+        assertThat(lru.put("a", "2")).isTrue();
+        assertThat(lru.get("a")).isEqualTo("2");
+        assertThat(lru.size()).isEqualTo(1);
+
+        assertThat(lru.remove("a")).isEqualTo("2");
+        assertThat(lru.contains("a")).isFalse();
+        assertThat(lru.remove("a")).isNull();
+        assertThat(lru.getActiveSize()).isZero();
+    }
+
+    @Test
+    void putIfAbsentReturnsExistingValue() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+
+        assertThat(lru.putIfAbsent("a", "1")).isEqualTo("1");
+        assertThat(lru.putIfAbsent("a", "2")).isEqualTo("1");
+        assertThat(lru.get("a")).isEqualTo("1");
+    }
+
+    @Test
+    void demotesOldestActiveEntryWhenActiveListIsFull() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+
+        lru.put("a", "1");
+        lru.put("b", "2");
+        lru.put("c", "3");
+
+        assertThat(lru.getActiveSize()).isEqualTo(2);
+        assertThat(lru.getInactiveSize()).isEqualTo(1);
+        assertThat(lru.size()).isEqualTo(3);
+        assertThat(lru.getTotalEvictions()).isZero();
+    }
+
+    @Test
+    void evictsOldestInactiveEntryWhenBothListsAreFull() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(1, 1);
+        List<String> evicted = new ArrayList<>();
+        lru.setEvictionCallback((key, value) -> evicted.add(key + "=" + value));
+
+        lru.put("a", "1");
+        lru.put("b", "2");
+        lru.put("c", "3");
+
+        assertThat(evicted).containsExactly("a=1");
+        assertThat(lru.contains("a")).isFalse();
+        assertThat(lru.contains("b")).isTrue();
+        assertThat(lru.contains("c")).isTrue();
+        assertThat(lru.getTotalEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void bufferedReadIsReplayedBeforeTheNextWrite() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+        List<String> evicted = new ArrayList<>();
+        lru.setEvictionCallback((key, value) -> evicted.add(key));
+
+        lru.put("a", "1");
+        lru.put("b", "2");
+        lru.put("c", "3");
+        // a 位于 Inactive List，读访问在下一次写入前回放并将其提升
+        assertThat(lru.get("a")).isEqualTo("1");
+        lru.put("d", "4");
+        lru.put("e", "5");
+
+        assertThat(evicted).containsExactly("b");
+        assertThat(lru.contains("a")).isTrue();
+    }
+
+    @Test
+    void protectedEntriesAreNeverEvicted() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(1, 1, value -> !value.startsWith("held"));
+
+        assertThat(lru.put("a", "held-a")).isTrue();
+        assertThat(lru.put("b", "free-b")).isFalse();
+        assertThat(lru.putIfAbsent("b", "free-b")).isNull();
+        assertThat(lru.contains("a")).isTrue();
+        assertThat(lru.contains("b")).isFalse();
+
+        lru.setEvictionPredicate(value -> true);
+        assertThat(lru.put("b", "free-b")).isTrue();
+        assertThat(lru.getInactiveSize()).isEqualTo(1);
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        TwoListLRU<String, String> lru = new TwoListLRU<>(2, 2);
+        lru.put("a", "1");
+        lru.put("b", "2");
+        lru.put("c", "3");
+        lru.get("a");
+
+        lru.clear();
+
+        assertThat(lru.size()).isZero();
+        assertThat(lru.getActiveSize()).isZero();
+        assertThat(lru.getInactiveSize()).isZero();
+        assertThat(lru.put("d", "4")).isTrue();
+        assertThat(lru.get("d")).isEqualTo("4");
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.davidhlp.spring.cache.redis.strategy.eviction.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class WTinyLfuTest {
+
+    @Test
+    void rejectsTooSmallMaximumSize() {
+        assertThatThrownBy(() -> new WTinyLfu<String, String>(1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void splitsCapacityIntoWindowProbationAndProtected() {
+        WTinyLfu<String, String> cache = new WTinyLfu<>(100);
+
+        assertThat(cache.getMaxWindowSize()).isEqualTo(1);
+        assertThat(cache.getMaxProtectedSize()).isEqualTo(79);
+        assertThat(cache.getMaxProbationSize()).isEqualTo(20);
+    }
+
+    @Test
+    void putGetAndRemove() {
+        WTinyLfu<String, String> cache = new WTinyLfu<>(10);
+
+        cache.put("a", "1");
+        cache.put("a", "2");
+
+        assertThat(cache.get("a")).isEqualTo("2");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.remove("a")).isEqualTo("2");
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.remove("a")).isNull();
+        assertThat(cache.get(null)).isNull();
+    }
+
+    @Test
+    void probationEntryIsPromotedOnAccess() {
+        WTinyLfu<String, String> cache = new WTinyLfu<>(100);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertThat(cache.getProbationSize()).isEqualTo(1);
+
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.getProtectedSize()).isEqualTo(1);
+        assertThat(cache.getProbationSize()).isEqualTo(1);
+        assertThat(cache.getWindowSize()).isEqualTo(1);
+    }
+
+    @Test
+    void staysWithinMaximumSize() {
+        WTinyLfu<Integer, Integer> cache = new WTinyLfu<>(100);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getTotalEvictions()).isEqualTo(900);
+    }
+
+    @Test
+    void frequentlyUsedEntriesSurviveAScan() {
+        WTinyLfu<String, String> cache = new WTinyLfu<>(100);
+        for (int i = 0; i < 20; i++) {
+            cache.put("hot-" + i, "v");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20; i++) {
+                cache.get("hot-" + i);
+            }
+        }
+
+        for (int i = 0; i < 400; i++) {
+            cache.put("scan-" + i, "v");
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(cache.contains("hot-" + i)).as("hot-%d", i).isTrue();
+        }
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        WTinyLfu<String, String> cache = new WTinyLfu<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, "v");
+            cache.get("k" + i);
+        }
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWindowSize()).isZero();
+        assertThat(cache.getProbationSize()).isZero();
+        assertThat(cache.getProtectedSize()).isZero();
+    }
+}